@@ -0,0 +1,209 @@
+#!/usr/bin/env python3
+# -*- coding: utf-8 -*-
+
+'''
+Load test for GET /lists/{uuid} against a slow public-concepts-api stub.
+
+Two subcommands, run in separate terminals:
+
+  stub  serves /concepts and /concordances, delaying every concept lookup
+  run   publishes test lists, then steps up the concurrency and reports the
+        throughput and latency at each step and the highest sustainable RPS
+
+Only the Python 3 standard library is needed.
+'''
+
+import argparse
+import http.client
+import json
+import sys
+import threading
+import time
+import uuid
+from http.server import BaseHTTPRequestHandler, ThreadingHTTPServer
+from urllib.parse import urlparse
+
+
+def concept(concept_uuid):
+    return {
+        'id': 'http://api.ft.com/things/' + concept_uuid,
+        'uuid': concept_uuid,
+        'apiUrl': 'http://api.ft.com/things/' + concept_uuid,
+        'prefLabel': 'Load test concept',
+    }
+
+
+class StubHandler(BaseHTTPRequestHandler):
+    delay = 0.0
+    protocol_version = 'HTTP/1.1'
+
+    def do_GET(self):
+        path = urlparse(self.path).path
+        if path == '/__gtg':
+            self.respond(200, {})
+        elif path.startswith('/concepts/'):
+            time.sleep(self.delay)
+            self.respond(200, concept(path[len('/concepts/'):]))
+        else:
+            # no concordances, so lists are looked up by the requested concept only
+            self.respond(404, {'message': 'not found'})
+
+    def do_POST(self):
+        body = self.rfile.read(int(self.headers.get('Content-Length', 0)))
+        if urlparse(self.path).path != '/concepts':
+            self.respond(404, {'message': 'not found'})
+            return
+        time.sleep(self.delay)
+        concepts = []
+        for concept_uuid in json.loads(body or '[]'):
+            found = concept(concept_uuid)
+            found['originalUUID'] = concept_uuid
+            concepts.append(found)
+        self.respond(200, concepts)
+
+    def respond(self, status, payload):
+        body = json.dumps(payload).encode('utf-8')
+        self.send_response(status)
+        self.send_header('Content-Type', 'application/json')
+        self.send_header('Content-Length', str(len(body)))
+        self.end_headers()
+        self.wfile.write(body)
+
+    def log_message(self, format, *args):
+        pass
+
+
+def stub(args):
+    StubHandler.delay = args.delay_ms / 1000.0
+    server = ThreadingHTTPServer(('0.0.0.0', args.port), StubHandler)
+    server.daemon_threads = True
+    print('Concepts API stub on port %d, %d ms per concept lookup' % (args.port, args.delay_ms))
+    server.serve_forever()
+
+
+def publish_lists(host, port, count):
+    connection = http.client.HTTPConnection(host, port, timeout=10)
+    uuids = []
+    for i in range(count):
+        list_uuid = str(uuid.uuid4())
+        body = json.dumps({
+            'uuid': list_uuid,
+            'title': 'Load test list %d' % i,
+            'concept': {'uuid': str(uuid.uuid4()), 'prefLabel': 'Load test concept'},
+            'listType': 'TopStories',
+            'items': [{'uuid': str(uuid.uuid4())} for _ in range(10)],
+            'publishReference': 'tid_loadtest',
+        })
+        connection.request('PUT', '/lists/' + list_uuid, body, {'Content-Type': 'application/json'})
+        response = connection.getresponse()
+        response.read()
+        if response.status not in (200, 201):
+            sys.exit('Publishing list %s failed with %d' % (list_uuid, response.status))
+        uuids.append(list_uuid)
+    connection.close()
+    return uuids
+
+
+def worker(host, port, uuids, deadline, latencies, errors, lock):
+    connection = http.client.HTTPConnection(host, port, timeout=30)
+    local_latencies = []
+    local_errors = 0
+    i = 0
+    while time.time() < deadline:
+        list_uuid = uuids[i % len(uuids)]
+        i += 1
+        start = time.time()
+        try:
+            connection.request('GET', '/lists/' + list_uuid)
+            response = connection.getresponse()
+            response.read()
+            if response.status != 200:
+                local_errors += 1
+        except (OSError, http.client.HTTPException):
+            local_errors += 1
+            connection.close()
+            connection = http.client.HTTPConnection(host, port, timeout=30)
+        local_latencies.append(time.time() - start)
+    connection.close()
+    with lock:
+        latencies.extend(local_latencies)
+        errors.append(local_errors)
+
+
+def percentile(values, fraction):
+    if not values:
+        return float('nan')
+    ordered = sorted(values)
+    return ordered[min(len(ordered) - 1, int(len(ordered) * fraction))]
+
+
+def run_step(host, port, uuids, concurrency, duration):
+    latencies, errors, lock = [], [], threading.Lock()
+    deadline = time.time() + duration
+    threads = [threading.Thread(target=worker,
+                                args=(host, port, uuids, deadline, latencies, errors, lock))
+               for _ in range(concurrency)]
+    for thread in threads:
+        thread.start()
+    for thread in threads:
+        thread.join()
+    requests = len(latencies)
+    return {
+        'concurrency': concurrency,
+        'rps': requests / float(duration),
+        'p50': percentile(latencies, 0.50) * 1000,
+        'p99': percentile(latencies, 0.99) * 1000,
+        'error_rate': sum(errors) / float(requests) if requests else 1.0,
+    }
+
+
+def run(args):
+    target = urlparse(args.url)
+    host, port = target.hostname, target.port or 80
+    uuids = publish_lists(host, port, args.lists)
+    print('Published %d lists, running %ds per step' % (len(uuids), args.duration))
+    print('%12s %10s %10s %10s %8s' % ('concurrency', 'rps', 'p50 ms', 'p99 ms', 'errors'))
+
+    sustainable = None
+    for concurrency in args.concurrency:
+        result = run_step(host, port, uuids, concurrency, args.duration)
+        print('%12d %10.1f %10.1f %10.1f %7.2f%%' % (
+            result['concurrency'], result['rps'], result['p50'], result['p99'],
+            result['error_rate'] * 100))
+        if result['error_rate'] <= 0.01 and result['p99'] <= args.max_p99_ms:
+            if sustainable is None or result['rps'] > sustainable['rps']:
+                sustainable = result
+
+    if sustainable is None:
+        print('No step stayed within %d ms p99 and 1%% errors' % args.max_p99_ms)
+    else:
+        print('Max sustainable: %.1f rps at concurrency %d' % (
+            sustainable['rps'], sustainable['concurrency']))
+
+
+def main():
+    parser = argparse.ArgumentParser(description=__doc__,
+                                     formatter_class=argparse.RawDescriptionHelpFormatter)
+    commands = parser.add_subparsers(dest='command')
+    commands.required = True
+
+    stub_parser = commands.add_parser('stub', help='run the slow concepts API stub')
+    stub_parser.add_argument('--port', type=int, default=9090)
+    stub_parser.add_argument('--delay-ms', type=int, default=200)
+    stub_parser.set_defaults(func=stub)
+
+    run_parser = commands.add_parser('run', help='load GET /lists/{uuid}')
+    run_parser.add_argument('--url', default='http://localhost:8080')
+    run_parser.add_argument('--lists', type=int, default=100)
+    run_parser.add_argument('--duration', type=int, default=30, help='seconds per step')
+    run_parser.add_argument('--concurrency', type=int, nargs='+',
+                            default=[8, 16, 32, 64, 128, 256, 512])
+    run_parser.add_argument('--max-p99-ms', type=int, default=1000)
+    run_parser.set_defaults(func=run)
+
+    args = parser.parse_args()
+    args.func(args)
+
+
+if __name__ == '__main__':
+    main()
@@ -0,0 +1,87 @@
+package com.ft.universalpublishing.documentstore.benchmarks;
+
+import com.ft.universalpublishing.documentstore.model.read.Concept;
+import com.ft.universalpublishing.documentstore.model.read.Concordance;
+import com.ft.universalpublishing.documentstore.service.PublicConceptsApiService;
+import com.ft.universalpublishing.documentstore.service.PublicConcordancesApiService;
+import com.mongodb.MongoClient;
+import com.mongodb.ServerAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/** Shared fixtures for the benchmarks. Mongo is reached through MONGO_TEST_URL, as in the tests. */
+final class BenchmarkFixtures {
+
+  static final String DB_NAME = "upp-store-benchmarks";
+
+  private BenchmarkFixtures() {}
+
+  static MongoClient mongoClient() {
+    String mongoTestUrl = System.getenv("MONGO_TEST_URL");
+    if (mongoTestUrl == null) {
+      mongoTestUrl = "localhost:27017";
+    }
+    String[] urlAddress = mongoTestUrl.replaceAll("https?://", "").split(":");
+    return new MongoClient(new ServerAddress(urlAddress[0], Integer.parseInt(urlAddress[1])));
+  }
+
+  static Map<String, Object> content(String uuid) {
+    Map<String, Object> content = new LinkedHashMap<>();
+    content.put("uuid", uuid);
+    content.put("type", "Article");
+    content.put("title", "Benchmark article " + uuid);
+    content.put("bodyXML", "<body><p>Lorem ipsum dolor sit amet, consectetur.</p></body>");
+    content.put("publishReference", "tid_benchmark");
+    return content;
+  }
+
+  static Map<String, Object> list(String uuid, String conceptUUID, int items) {
+    Map<String, Object> concept = new LinkedHashMap<>();
+    concept.put("uuid", conceptUUID);
+    concept.put("prefLabel", "World");
+
+    List<Map<String, Object>> listItems = new ArrayList<>();
+    for (int i = 0; i < items; i++) {
+      listItems.add(Collections.singletonMap("uuid", UUID.randomUUID().toString()));
+    }
+
+    Map<String, Object> list = new LinkedHashMap<>();
+    list.put("uuid", uuid);
+    list.put("title", "Top stories");
+    list.put("concept", concept);
+    list.put("listType", "TopStories");
+    list.put("items", listItems);
+    list.put("publishReference", "tid_benchmark");
+    return list;
+  }
+
+  /** Answers concept lookups from memory so the benchmarks measure this service, not the API. */
+  static PublicConceptsApiService conceptsApi() {
+    return new PublicConceptsApiService() {
+      @Override
+      public Concept getUpToDateConcept(String conceptUUID) {
+        return new Concept(UUID.fromString(conceptUUID), "World");
+      }
+
+      @Override
+      public List<Concept> searchConcepts(String[] conceptUUIDs) {
+        List<Concept> concepts = new ArrayList<>();
+        for (String conceptUUID : conceptUUIDs) {
+          Concept concept = getUpToDateConcept(conceptUUID);
+          concept.setOriginalUUID(conceptUUID);
+          concepts.add(concept);
+        }
+        return concepts;
+      }
+    };
+  }
+
+  /** No concordances, so the requested concept is used as is. */
+  static PublicConcordancesApiService concordancesApi() {
+    return conceptUUID -> Collections.<Concordance>emptyList();
+  }
+}
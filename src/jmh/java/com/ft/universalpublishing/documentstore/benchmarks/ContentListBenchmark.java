@@ -0,0 +1,68 @@
+package com.ft.universalpublishing.documentstore.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ft.universalpublishing.documentstore.model.read.ContentList;
+import com.ft.universalpublishing.documentstore.model.read.Context;
+import com.ft.universalpublishing.documentstore.target.ApplyConcordedConceptToListTarget;
+import com.ft.universalpublishing.documentstore.validators.ContentListValidator;
+import com.ft.universalpublishing.documentstore.validators.UuidValidator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Converts and validates stored lists, the CPU bound part of list reads and writes. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ContentListBenchmark {
+
+  @Param({"20", "1000"})
+  private int items;
+
+  private ObjectMapper objectMapper;
+  private ApplyConcordedConceptToListTarget target;
+  private ContentListValidator validator;
+  private String uuid;
+  private Map<String, Object> listMap;
+  private ContentList contentList;
+
+  @Setup
+  public void setup() {
+    objectMapper = new ObjectMapper();
+    target =
+        new ApplyConcordedConceptToListTarget(
+            BenchmarkFixtures.conceptsApi(), "localhost", objectMapper);
+    validator = new ContentListValidator(new UuidValidator());
+    uuid = UUID.randomUUID().toString();
+    listMap = BenchmarkFixtures.list(uuid, UUID.randomUUID().toString(), items);
+    contentList = objectMapper.convertValue(listMap, ContentList.class);
+  }
+
+  @Benchmark
+  public Object applyConcordedConceptToList() {
+    Context context = new Context();
+    context.setUuids(uuid);
+    context.setContentMap(listMap);
+    return target.execute(context);
+  }
+
+  @Benchmark
+  public ContentList validate() {
+    validator.validate(uuid, contentList);
+    return contentList;
+  }
+}
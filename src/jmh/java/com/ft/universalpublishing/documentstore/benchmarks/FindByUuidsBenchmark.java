@@ -0,0 +1,86 @@
+package com.ft.universalpublishing.documentstore.benchmarks;
+
+import com.codahale.metrics.MetricRegistry;
+import com.ft.universalpublishing.documentstore.CacheConfig;
+import com.ft.universalpublishing.documentstore.service.MongoDocumentStoreService;
+import com.ft.universalpublishing.documentstore.service.cache.DocumentCache;
+import com.mongodb.MongoClient;
+import com.mongodb.client.MongoDatabase;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.bson.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Looks up documents by UUID against Mongo, including putting the results back into the requested
+ * order, with and without the document cache.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FindByUuidsBenchmark {
+
+  private static final String COLLECTION = "content";
+
+  @Param({"10", "100", "1000"})
+  private int size;
+
+  @Param({"false", "true"})
+  private boolean cached;
+
+  private MongoClient mongoClient;
+  private MongoDocumentStoreService documentStoreService;
+  private Set<UUID> uuids;
+
+  @Setup
+  public void setup() {
+    mongoClient = BenchmarkFixtures.mongoClient();
+    MongoDatabase db = mongoClient.getDatabase(BenchmarkFixtures.DB_NAME);
+    db.getCollection(COLLECTION).drop();
+
+    DocumentCache documentCache =
+        cached
+            ? new DocumentCache(
+                Collections.singletonMap(COLLECTION, new CacheConfig()), new MetricRegistry())
+            : DocumentCache.disabled();
+    documentStoreService =
+        new MongoDocumentStoreService(db, Executors.newSingleThreadExecutor(), documentCache);
+    documentStoreService.applyIndexes();
+
+    uuids = new LinkedHashSet<>();
+    for (int i = 0; i < size; i++) {
+      UUID uuid = UUID.randomUUID();
+      uuids.add(uuid);
+      documentStoreService.write(COLLECTION, BenchmarkFixtures.content(uuid.toString()));
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    mongoClient.close();
+  }
+
+  @Benchmark
+  public List<Document> findByUuids() {
+    return documentStoreService.findByUuids(COLLECTION, uuids);
+  }
+}
@@ -0,0 +1,207 @@
+package com.ft.universalpublishing.documentstore.benchmarks;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ft.universalpublishing.documentstore.DocumentStoreApiApplication;
+import com.ft.universalpublishing.documentstore.handler.HandlerChain;
+import com.ft.universalpublishing.documentstore.model.read.Context;
+import com.ft.universalpublishing.documentstore.model.read.Operation;
+import com.ft.universalpublishing.documentstore.model.read.Pair;
+import com.ft.universalpublishing.documentstore.service.BsonJsonTranscoder;
+import com.ft.universalpublishing.documentstore.service.MongoDocumentStoreService;
+import com.google.common.io.ByteStreams;
+import com.mongodb.MongoClient;
+import com.mongodb.client.MongoDatabase;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import javax.ws.rs.core.UriInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Runs each registered handler chain end to end against Mongo, with the concepts and concordances
+ * APIs answered from memory. The chains are the ones built by {@link
+ * DocumentStoreApiApplication#createHandlerChains}, so adding a chain there means adding it to the
+ * {@code chain} parameter here.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HandlerChainBenchmark {
+
+  private static final int ITEMS = 20;
+
+  @Param({
+    "content:GET_BY_ID",
+    "content:GET_FILTERED",
+    "content:GET_MULTIPLE_FILTERED",
+    "content:ADD",
+    "content:REMOVE",
+    "complementarycontent:GET_BY_ID",
+    "complementarycontent:GET_FILTERED",
+    "complementarycontent:GET_MULTIPLE_FILTERED",
+    "complementarycontent:ADD",
+    "complementarycontent:REMOVE",
+    "internalcomponents:GET_BY_ID",
+    "internalcomponents:GET_FILTERED",
+    "internalcomponents:GET_MULTIPLE_FILTERED",
+    "internalcomponents:ADD",
+    "internalcomponents:REMOVE",
+    "lists:GET_BY_ID",
+    "lists:GET_FILTERED",
+    "lists:GET_MULTIPLE_FILTERED",
+    "lists:SEARCH",
+    "lists:ADD",
+    "lists:REMOVE",
+    "generic-lists:GET_BY_ID",
+    "generic-lists:GET_FILTERED",
+    "generic-lists:GET_MULTIPLE_FILTERED",
+    "generic-lists:SEARCH",
+    "generic-lists:ADD",
+    "generic-lists:REMOVE"
+  })
+  private String chain;
+
+  private MongoClient mongoClient;
+  private MongoDocumentStoreService documentStoreService;
+  private HandlerChain handlerChain;
+  private String collection;
+  private Operation operation;
+  private String conceptUUID;
+  private List<String> uuids;
+  private Map<String, Object> document;
+  private UriInfo uriInfo;
+
+  @Setup
+  public void setup() {
+    String[] key = chain.split(":");
+    collection = key[0];
+    operation = Operation.valueOf(key[1]);
+    boolean isList = collection.endsWith("lists");
+
+    mongoClient = BenchmarkFixtures.mongoClient();
+    MongoDatabase db = mongoClient.getDatabase(BenchmarkFixtures.DB_NAME);
+    db.getCollection(collection).drop();
+    documentStoreService = new MongoDocumentStoreService(db, Executors.newSingleThreadExecutor());
+    documentStoreService.applyIndexes();
+
+    ObjectMapper objectMapper = new ObjectMapper();
+    Map<Pair<String, Operation>, HandlerChain> chains =
+        DocumentStoreApiApplication.createHandlerChains(
+            "localhost",
+            ForkJoinPool.commonPool(),
+            objectMapper,
+            new BsonJsonTranscoder(objectMapper, db.getCodecRegistry()),
+            documentStoreService,
+            BenchmarkFixtures.conceptsApi(),
+            BenchmarkFixtures.concordancesApi());
+    handlerChain = chains.get(new Pair<>(collection, operation));
+    if (handlerChain == null) {
+      throw new IllegalArgumentException("No handler chain registered for " + chain);
+    }
+
+    conceptUUID = UUID.randomUUID().toString();
+    uuids = new ArrayList<>();
+    for (int i = 0; i < ITEMS; i++) {
+      String uuid = UUID.randomUUID().toString();
+      uuids.add(uuid);
+      documentStoreService.write(
+          collection,
+          isList
+              ? BenchmarkFixtures.list(uuid, conceptUUID, ITEMS)
+              : BenchmarkFixtures.content(uuid));
+    }
+    document = documentStoreService.findByUuid(collection, UUID.fromString(uuids.get(0)));
+
+    MultivaluedMap<String, String> queryParameters = new MultivaluedHashMap<>();
+    if (isList) {
+      queryParameters.add("curatedTopStoriesFor", conceptUUID);
+    } else {
+      queryParameters.put("uuid", uuids);
+    }
+    uriInfo = mock(UriInfo.class);
+    when(uriInfo.getQueryParameters()).thenReturn(queryParameters);
+  }
+
+  @Setup(Level.Invocation)
+  public void restoreRemovedDocument() {
+    if (operation == Operation.REMOVE) {
+      documentStoreService.write(collection, document);
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    mongoClient.close();
+  }
+
+  @Benchmark
+  public Object execute() throws IOException {
+    Object result = handlerChain.execute(context());
+    if (result instanceof Response) {
+      result = ((Response) result).getEntity();
+    }
+    if (result instanceof StreamingOutput) {
+      // streamed responses do their work when written, as Jersey would
+      ((StreamingOutput) result).write(ByteStreams.nullOutputStream());
+    }
+    return result;
+  }
+
+  // mirrors how DocumentResource populates the context for each operation
+  private Context context() {
+    Context context = new Context();
+    context.setCollection(collection);
+    switch (operation) {
+      case GET_BY_ID:
+      case REMOVE:
+        context.setUuids(uuids.get(0));
+        break;
+      case GET_FILTERED:
+        context.setUriInfo(uriInfo);
+        break;
+      case GET_MULTIPLE_FILTERED:
+        context.setUriInfo(uriInfo);
+        context.setUuids(uuids);
+        break;
+      case SEARCH:
+        context.setConceptUUID(conceptUUID);
+        context.setListType("TopStories");
+        break;
+      case ADD:
+        context.setUuids(uuids.get(0));
+        context.setContentMap(document);
+        context.setUriInfo(uriInfo);
+        break;
+      default:
+        throw new IllegalStateException("Unexpected operation " + operation);
+    }
+    return context;
+  }
+}
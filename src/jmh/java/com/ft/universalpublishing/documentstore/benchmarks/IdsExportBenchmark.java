@@ -0,0 +1,114 @@
+package com.ft.universalpublishing.documentstore.benchmarks;
+
+import com.codahale.metrics.Meter;
+import com.ft.universalpublishing.documentstore.service.MongoDocumentStoreService;
+import com.google.common.io.ByteStreams;
+import com.mongodb.MongoClient;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.Projections;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.bson.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Exports a whole collection through {@code __ids}, against the previous row-by-row {@code
+ * toJson().getBytes()} loop as a baseline.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IdsExportBenchmark {
+
+  private static final String COLLECTION = "content";
+
+  @Param({"100000"})
+  private int rows;
+
+  @Param({"false", "true"})
+  private boolean includeSource;
+
+  private MongoClient mongoClient;
+  private MongoCollection<Document> collection;
+  private MongoDocumentStoreService documentStoreService;
+  private final OutputStream out = ByteStreams.nullOutputStream();
+
+  @Setup
+  public void setup() {
+    mongoClient = BenchmarkFixtures.mongoClient();
+    MongoDatabase db = mongoClient.getDatabase(BenchmarkFixtures.DB_NAME);
+    collection = db.getCollection(COLLECTION);
+    collection.drop();
+    documentStoreService = new MongoDocumentStoreService(db, Executors.newSingleThreadExecutor());
+    documentStoreService.applyIndexes();
+
+    List<Document> batch = new ArrayList<>();
+    for (int i = 0; i < rows; i++) {
+      Map<String, Object> content = BenchmarkFixtures.content(UUID.randomUUID().toString());
+      content.put(
+          "identifiers",
+          Arrays.asList(new Document("authority", "http://api.ft.com/system/FTCOM-METHODE")));
+      batch.add(new Document(content));
+      if (batch.size() == 1000) {
+        collection.insertMany(batch);
+        batch.clear();
+      }
+    }
+    if (!batch.isEmpty()) {
+      collection.insertMany(batch);
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    mongoClient.close();
+  }
+
+  @Benchmark
+  public void findUUIDs() {
+    documentStoreService.findUUIDs(COLLECTION, includeSource, out, new Meter());
+  }
+
+  @Benchmark
+  public void toJsonPerRow() throws IOException {
+    List<String> fields = new ArrayList<>(Arrays.asList("uuid"));
+    if (includeSource) {
+      fields.add("identifiers.authority");
+    }
+    MongoCursor<Document> cursor =
+        collection
+            .find()
+            .projection(Projections.fields(Projections.include(fields), Projections.excludeId()))
+            .iterator();
+    try {
+      while (cursor.hasNext()) {
+        out.write((cursor.next().toJson() + "\n").getBytes());
+      }
+    } finally {
+      cursor.close();
+    }
+  }
+}
@@ -0,0 +1,133 @@
+package com.ft.universalpublishing.documentstore.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.ft.universalpublishing.documentstore.model.read.Concept;
+import com.ft.universalpublishing.documentstore.model.read.Concordance;
+import com.ft.universalpublishing.documentstore.model.read.Concordances;
+import com.ft.universalpublishing.documentstore.model.read.ContentList;
+import com.ft.universalpublishing.documentstore.model.read.Identifier;
+import com.ft.universalpublishing.documentstore.model.read.ListItem;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the per-request {@code new ObjectMapper()} used before with the shared mapper and
+ * pre-built readers now injected into the targets and API services. Run with {@code -prof gc} (the
+ * default for the benchmarks profile) to see the allocation per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ObjectMapperBenchmark {
+
+  private ObjectMapper sharedMapper;
+  private ObjectReader conceptReader;
+  private ObjectReader conceptsReader;
+  private ObjectReader concordancesReader;
+
+  private String conceptPayload;
+  private String conceptsPayload;
+  private String concordancesPayload;
+  private Map<String, Object> contentListMap;
+
+  @Setup
+  @SuppressWarnings("unchecked")
+  public void setup() throws IOException {
+    sharedMapper = new ObjectMapper();
+    conceptReader = sharedMapper.readerFor(Concept.class);
+    conceptsReader = sharedMapper.readerFor(Concept[].class);
+    concordancesReader = sharedMapper.readerFor(Concordances.class);
+
+    Concept concept = new Concept(UUID.randomUUID(), "World");
+    conceptPayload = sharedMapper.writeValueAsString(concept);
+
+    Concept[] concepts = new Concept[20];
+    List<Concordance> concordances = new ArrayList<>();
+    for (int i = 0; i < concepts.length; i++) {
+      concepts[i] = new Concept(UUID.randomUUID(), "Concept " + i);
+      concordances.add(
+          new Concordance(
+              concepts[i],
+              new Identifier(
+                  i % 2 == 0 ? "http://api.ft.com/system/UPP" : "http://api.ft.com/system/TME",
+                  UUID.randomUUID().toString())));
+    }
+    conceptsPayload = sharedMapper.writeValueAsString(concepts);
+    concordancesPayload = sharedMapper.writeValueAsString(new Concordances(concordances));
+
+    List<ListItem> items = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      ListItem item = new ListItem();
+      item.setUuid(UUID.randomUUID().toString());
+      items.add(item);
+    }
+    ContentList contentList =
+        new ContentList.Builder()
+            .withUuid(UUID.randomUUID())
+            .withTitle("Top stories")
+            .withConcept(concept)
+            .withListType("TopStories")
+            .withItems(items)
+            .withPublishReference("tid_benchmark")
+            .build();
+    contentListMap = sharedMapper.convertValue(contentList, Map.class);
+  }
+
+  @Benchmark
+  public Concept conceptPerRequestMapper() throws IOException {
+    return new ObjectMapper().reader().forType(Concept.class).readValue(conceptPayload);
+  }
+
+  @Benchmark
+  public Concept conceptSharedReader() throws IOException {
+    return conceptReader.readValue(conceptPayload);
+  }
+
+  @Benchmark
+  public Concept[] conceptsPerRequestMapper() throws IOException {
+    return new ObjectMapper().readValue(conceptsPayload, Concept[].class);
+  }
+
+  @Benchmark
+  public Concept[] conceptsSharedReader() throws IOException {
+    return conceptsReader.readValue(conceptsPayload);
+  }
+
+  @Benchmark
+  public Concordances concordancesPerRequestMapper() throws IOException {
+    return new ObjectMapper().readValue(concordancesPayload, Concordances.class);
+  }
+
+  @Benchmark
+  public Concordances concordancesSharedReader() throws IOException {
+    return concordancesReader.readValue(concordancesPayload);
+  }
+
+  @Benchmark
+  public ContentList contentListPerRequestMapper() {
+    return new ObjectMapper().convertValue(contentListMap, ContentList.class);
+  }
+
+  @Benchmark
+  public ContentList contentListSharedMapper() {
+    return sharedMapper.convertValue(contentListMap, ContentList.class);
+  }
+}
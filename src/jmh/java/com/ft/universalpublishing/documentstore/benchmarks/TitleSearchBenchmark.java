@@ -0,0 +1,108 @@
+package com.ft.universalpublishing.documentstore.benchmarks;
+
+import com.ft.universalpublishing.documentstore.service.MongoDocumentStoreService;
+import com.mongodb.MongoClient;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.bson.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Searches 100k lists by title. With {@code tokenized} lists are written through the service, so
+ * searches match the indexed title tokens; without it they are inserted as lists stored before
+ * tokenizing were, and every search scans their titles, as it does until the service has tokenized
+ * them in the background.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TitleSearchBenchmark {
+
+  private static final String COLLECTION = "lists";
+  private static final int LISTS = 100_000;
+  private static final int BATCH_SIZE = 1_000;
+
+  @Param({"false", "true"})
+  private boolean tokenized;
+
+  @Param({"list4242", "World list42"})
+  private String searchTerm;
+
+  private MongoClient mongoClient;
+  private MongoDocumentStoreService documentStoreService;
+
+  @Setup
+  public void setup() {
+    mongoClient = BenchmarkFixtures.mongoClient();
+    MongoDatabase db = mongoClient.getDatabase(BenchmarkFixtures.DB_NAME);
+    MongoCollection<Document> lists = db.getCollection(COLLECTION);
+    lists.drop();
+
+    // a shut down executor that discards what it is given, so the background title tokenizing
+    // never runs and lists inserted untokenized below stay that way
+    ThreadPoolExecutor noBackgroundTasks =
+        new ThreadPoolExecutor(
+            1,
+            1,
+            0,
+            TimeUnit.MILLISECONDS,
+            new SynchronousQueue<>(),
+            new ThreadPoolExecutor.DiscardPolicy());
+    noBackgroundTasks.shutdown();
+    documentStoreService = new MongoDocumentStoreService(db, noBackgroundTasks);
+    documentStoreService.applyIndexes();
+
+    List<Map<String, Object>> batch = new ArrayList<>(BATCH_SIZE);
+    for (int i = 0; i < LISTS; i++) {
+      Map<String, Object> list =
+          BenchmarkFixtures.list(UUID.randomUUID().toString(), UUID.randomUUID().toString(), 5);
+      list.put("title", "World top stories list" + i);
+      batch.add(list);
+      if (batch.size() == BATCH_SIZE) {
+        write(lists, batch);
+        batch.clear();
+      }
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    mongoClient.close();
+  }
+
+  @Benchmark
+  public List<Document> searchByTitle() {
+    return documentStoreService.filterLists(COLLECTION, null, null, searchTerm);
+  }
+
+  private void write(MongoCollection<Document> lists, List<Map<String, Object>> batch) {
+    if (tokenized) {
+      documentStoreService.writeAll(COLLECTION, batch);
+      return;
+    }
+    List<Document> documents = new ArrayList<>(batch.size());
+    batch.forEach(list -> documents.add(new Document(list)));
+    lists.insertMany(documents);
+  }
+}
@@ -0,0 +1,49 @@
+package com.ft.universalpublishing.documentstore;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dropwizard.util.Duration;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+@Data
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@NoArgsConstructor
+public class ApiResilienceConfig {
+
+  // calls to the API in flight at once; further calls fail fast instead of holding a thread
+  @Min(1)
+  @JsonProperty
+  int maxConcurrentCalls = 64;
+
+  // percentage of failed calls in the window at which the circuit opens
+  @Min(1)
+  @Max(100)
+  @JsonProperty
+  int failureRateThreshold = 50;
+
+  // percentage of calls slower than slowCallDurationThreshold at which the circuit opens
+  @Min(1)
+  @Max(100)
+  @JsonProperty
+  int slowCallRateThreshold = 50;
+
+  @JsonProperty Duration slowCallDurationThreshold = Duration.seconds(1);
+
+  @Min(1)
+  @JsonProperty
+  int slidingWindowSize = 50;
+
+  @Min(1)
+  @JsonProperty
+  int minimumNumberOfCalls = 20;
+
+  @JsonProperty Duration waitDurationInOpenState = Duration.seconds(10);
+
+  @Min(1)
+  @JsonProperty
+  int permittedCallsInHalfOpenState = 5;
+}
@@ -0,0 +1,25 @@
+package com.ft.universalpublishing.documentstore;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dropwizard.util.Duration;
+import javax.validation.constraints.Min;
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+@Data
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@NoArgsConstructor
+public class BatchingConfig {
+
+  @JsonProperty boolean enabled = false;
+
+  // how long the first key of a batch waits for others to join it
+  @JsonProperty Duration maxDelay = Duration.milliseconds(5);
+
+  // a batch is sent as soon as it has this many keys
+  @Min(1)
+  @JsonProperty
+  int maxBatchSize = 50;
+}
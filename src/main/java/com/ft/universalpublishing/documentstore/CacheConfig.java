@@ -0,0 +1,21 @@
+package com.ft.universalpublishing.documentstore;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dropwizard.util.Duration;
+import javax.validation.constraints.Min;
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+@Data
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@NoArgsConstructor
+public class CacheConfig {
+
+  @Min(1)
+  @JsonProperty
+  long maximumSize = 10_000;
+
+  @JsonProperty Duration expireAfterWrite = Duration.seconds(30);
+}
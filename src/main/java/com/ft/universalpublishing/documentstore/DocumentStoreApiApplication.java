@@ -1,14 +1,20 @@
 package com.ft.universalpublishing.documentstore;
 
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ft.api.util.buildinfo.BuildInfoResource;
 import com.ft.api.util.transactionid.TransactionIdFilter;
 import com.ft.platform.dropwizard.AdvancedHealthCheckBundle;
 import com.ft.platform.dropwizard.GoodToGoConfiguredBundle;
+import com.ft.universalpublishing.documentstore.clients.ApiCallGuard;
 import com.ft.universalpublishing.documentstore.clients.PublicConceptsApiClient;
 import com.ft.universalpublishing.documentstore.clients.PublicConcordancesApiClient;
+import com.ft.universalpublishing.documentstore.clients.RequestHedger;
 import com.ft.universalpublishing.documentstore.handler.ConceptUuidValidationHandler;
 import com.ft.universalpublishing.documentstore.handler.ContentListValidationHandler;
 import com.ft.universalpublishing.documentstore.handler.ExtractConceptHandler;
+import com.ft.universalpublishing.documentstore.handler.ExtractFieldsHandler;
 import com.ft.universalpublishing.documentstore.handler.ExtractUuidsHandler;
 import com.ft.universalpublishing.documentstore.handler.FilterListsHandler;
 import com.ft.universalpublishing.documentstore.handler.FindListByConceptAndTypeHandler;
@@ -18,7 +24,9 @@ import com.ft.universalpublishing.documentstore.handler.GetConcordedConceptsHand
 import com.ft.universalpublishing.documentstore.handler.Handler;
 import com.ft.universalpublishing.documentstore.handler.HandlerChain;
 import com.ft.universalpublishing.documentstore.handler.MultipleUuidValidationHandler;
+import com.ft.universalpublishing.documentstore.handler.ParallelHandler;
 import com.ft.universalpublishing.documentstore.handler.PreSaveFieldRemovalHandler;
+import com.ft.universalpublishing.documentstore.handler.SearchConcordedConceptsHandler;
 import com.ft.universalpublishing.documentstore.handler.UuidValidationHandler;
 import com.ft.universalpublishing.documentstore.health.DocumentStoreConnectionGoodToGoChecker;
 import com.ft.universalpublishing.documentstore.health.DocumentStoreConnectionHealthCheck;
@@ -28,29 +36,39 @@ import com.ft.universalpublishing.documentstore.health.HealthcheckParameters;
 import com.ft.universalpublishing.documentstore.health.HealthcheckService;
 import com.ft.universalpublishing.documentstore.model.read.Operation;
 import com.ft.universalpublishing.documentstore.model.read.Pair;
+import com.ft.universalpublishing.documentstore.resources.DocumentBulkResource;
+import com.ft.universalpublishing.documentstore.resources.DocumentChangesResource;
 import com.ft.universalpublishing.documentstore.resources.DocumentIDResource;
 import com.ft.universalpublishing.documentstore.resources.DocumentQueryResource;
 import com.ft.universalpublishing.documentstore.resources.DocumentResource;
+import com.ft.universalpublishing.documentstore.resources.RequestCoalescer;
+import com.ft.universalpublishing.documentstore.service.BatchingPublicConceptsApiService;
+import com.ft.universalpublishing.documentstore.service.BsonJsonTranscoder;
 import com.ft.universalpublishing.documentstore.service.MongoDocumentStoreService;
 import com.ft.universalpublishing.documentstore.service.PublicConceptsApiService;
 import com.ft.universalpublishing.documentstore.service.PublicConceptsApiServiceImpl;
 import com.ft.universalpublishing.documentstore.service.PublicConcordancesApiService;
 import com.ft.universalpublishing.documentstore.service.PublicConcordancesApiServiceImpl;
+import com.ft.universalpublishing.documentstore.service.cache.ConceptCache;
+import com.ft.universalpublishing.documentstore.service.cache.DocumentCache;
+import com.ft.universalpublishing.documentstore.service.filter.ByteCountingFilter;
 import com.ft.universalpublishing.documentstore.service.filter.CacheControlFilter;
 import com.ft.universalpublishing.documentstore.target.ApplyConcordedConceptToListTarget;
 import com.ft.universalpublishing.documentstore.target.ApplyConcordedConceptsToListsTarget;
 import com.ft.universalpublishing.documentstore.target.DeleteDocumentTarget;
-import com.ft.universalpublishing.documentstore.target.FindMultipleResourcesByUuidsTarget;
-import com.ft.universalpublishing.documentstore.target.FindResourceByUuidTarget;
+import com.ft.universalpublishing.documentstore.target.StreamMultipleResourcesByUuidsTarget;
+import com.ft.universalpublishing.documentstore.target.StreamResourceByUuidTarget;
 import com.ft.universalpublishing.documentstore.target.Target;
 import com.ft.universalpublishing.documentstore.target.WriteDocumentTarget;
 import com.ft.universalpublishing.documentstore.validators.ContentListValidator;
 import com.ft.universalpublishing.documentstore.validators.UuidValidator;
+import com.google.common.collect.ImmutableSet;
 import com.mongodb.MongoClient;
 import com.mongodb.MongoClientOptions;
 import com.mongodb.ServerAddress;
 import com.mongodb.client.MongoDatabase;
 import io.dropwizard.Application;
+import io.dropwizard.client.JerseyClientBuilder;
 import io.dropwizard.setup.Bootstrap;
 import io.dropwizard.setup.Environment;
 import io.dropwizard.util.Duration;
@@ -65,9 +83,14 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
 import javax.servlet.DispatcherType;
 import javax.ws.rs.client.Client;
-import org.glassfish.jersey.client.JerseyClientBuilder;
+import org.eclipse.jetty.io.ConnectionStatistics;
+import org.eclipse.jetty.server.Connector;
 
 @SwaggerDefinition(
     tags = {
@@ -117,26 +140,76 @@ public class DocumentStoreApiApplication extends Application<DocumentStoreApiCon
         .addFilter("cache-filter", new CacheControlFilter("max-age=" + configuration.getCacheTtl()))
         .addMappingForUrlPatterns(EnumSet.of(DispatcherType.REQUEST), true, "/lists/*");
 
+    environment
+        .servlets()
+        .addFilter("byte-counting-filter", new ByteCountingFilter(environment.metrics()))
+        .addMappingForUrlPatterns(EnumSet.of(DispatcherType.REQUEST), true, "/*");
+    registerConnectionStatistics(environment);
+
     environment.jersey().register(new BuildInfoResource());
 
     final MongoClient mongoClient = getMongoClient(configuration.getMongo());
     final MongoDatabase database = mongoClient.getDatabase(configuration.getMongo().getDb());
+    final DocumentCache documentCache =
+        new DocumentCache(configuration.getDocumentCache(), environment.metrics());
     final MongoDocumentStoreService documentStoreService =
         new MongoDocumentStoreService(
-            database, environment.lifecycle().executorService("reindexer").build());
+            database, environment.lifecycle().executorService("reindexer").build(), documentCache);
+
+    // shared across requests so Jackson's serializer and deserializer caches are reused
+    final ObjectMapper objectMapper = new ObjectMapper();
+    // writes single documents with the same mapper Jersey would otherwise serialize them with
+    final BsonJsonTranscoder bsonJsonTranscoder =
+        new BsonJsonTranscoder(environment.getObjectMapper(), database.getCodecRegistry());
+
+    final RequestExecutorConfig requestExecutorConfig = configuration.getRequestExecutor();
 
-    Client client = new JerseyClientBuilder().build();
     PublicConceptsApiClient publicConceptsApiClient =
-        new PublicConceptsApiClient(configuration.getPublicConceptsApiConfig().getHost(), client);
+        new PublicConceptsApiClient(
+            configuration.getPublicConceptsApiConfig().getHost(),
+            buildClient(
+                "public-concepts-api",
+                configuration.getPublicConceptsApiConfig().getHttpClient(),
+                environment));
 
     PublicConcordancesApiClient publicConcordancesApiClient =
         new PublicConcordancesApiClient(
-            configuration.getPublicConcordancesApiConfig().getHost(), client);
+            configuration.getPublicConcordancesApiConfig().getHost(),
+            buildClient(
+                "public-concordances-api",
+                configuration.getPublicConcordancesApiConfig().getHttpClient(),
+                environment));
 
+    final ConceptCache conceptCache =
+        new ConceptCache(
+            configuration.getPublicConceptsApiConfig().getConceptCache(),
+            configuration.getPublicConceptsApiConfig().getMissingConceptCache(),
+            environment.metrics());
     final PublicConceptsApiServiceImpl publicConceptsApiService =
-        new PublicConceptsApiServiceImpl(publicConceptsApiClient);
+        new PublicConceptsApiServiceImpl(
+            publicConceptsApiClient,
+            new ApiCallGuard(
+                "public-concepts-api",
+                configuration.getPublicConceptsApiConfig().getResilience(),
+                environment.metrics()),
+            buildHedger(
+                "public-concepts-api",
+                configuration.getPublicConceptsApiConfig().getHedging(),
+                configuration.getPublicConceptsApiConfig().getResilience(),
+                environment),
+            conceptCache,
+            objectMapper);
     final PublicConcordancesApiServiceImpl publicConcordancesApiService =
-        new PublicConcordancesApiServiceImpl(publicConcordancesApiClient);
+        new PublicConcordancesApiServiceImpl(
+            publicConcordancesApiClient,
+            new ApiCallGuard(
+                "public-concordances-api",
+                configuration.getPublicConcordancesApiConfig().getResilience(),
+                environment.metrics()),
+            objectMapper,
+            configuration.getPublicConcordancesApiConfig().getConcordanceCache(),
+            environment.lifecycle().executorService("concordances-refresh").build(),
+            environment.metrics());
 
     registerHealthChecks(
         configuration,
@@ -144,17 +217,188 @@ public class DocumentStoreApiApplication extends Application<DocumentStoreApiCon
         documentStoreService,
         publicConceptsApiService,
         publicConcordancesApiService);
+
+    PublicConceptsApiService listConceptsService = publicConceptsApiService;
+    BatchingConfig batchingConfig = configuration.getPublicConceptsApiConfig().getBatching();
+    if (batchingConfig.isEnabled()) {
+      listConceptsService =
+          new BatchingPublicConceptsApiService(
+              publicConceptsApiService,
+              conceptCache,
+              batchingConfig,
+              environment.lifecycle().scheduledExecutorService("public-concepts-batching").build(),
+              buildFanOutExecutor(
+                  "public-concepts-batch-loads", requestExecutorConfig, environment),
+              environment.metrics());
+    }
     registerResources(
         configuration,
         environment,
+        buildFanOutExecutor("document-fan-out", requestExecutorConfig, environment),
+        objectMapper,
+        bsonJsonTranscoder,
         documentStoreService,
-        publicConceptsApiService,
+        listConceptsService,
         publicConcordancesApiService);
   }
 
+  /**
+   * Meters the bytes on the wire, after response compression, on the application connectors, to
+   * set against the entity bytes metered by {@link ByteCountingFilter}.
+   */
+  private void registerConnectionStatistics(Environment environment) {
+    ConnectionStatistics statistics = new ConnectionStatistics();
+    environment
+        .lifecycle()
+        .addServerLifecycleListener(
+            server -> {
+              for (Connector connector : server.getConnectors()) {
+                if (!"admin".equals(connector.getName())) {
+                  connector.addBean(statistics);
+                }
+              }
+            });
+    environment
+        .metrics()
+        .register(
+            MetricRegistry.name(ConnectionStatistics.class, "bytes-in"),
+            (Gauge<Long>) statistics::getReceivedBytes);
+    environment
+        .metrics()
+        .register(
+            MetricRegistry.name(ConnectionStatistics.class, "bytes-out"),
+            (Gauge<Long>) statistics::getSentBytes);
+  }
+
+  /**
+   * Builds a pooled client for one of the public APIs. Each API gets its own pool, whose use is
+   * published under {@code org.apache.http.conn.HttpClientConnectionManager.<name>}.
+   */
+  private Client buildClient(String name, PublicApiClientConfig config, Environment environment) {
+    return new JerseyClientBuilder(environment).using(config).build(name);
+  }
+
+  private RequestHedger buildHedger(
+      String name,
+      HedgingConfig config,
+      ApiResilienceConfig resilienceConfig,
+      Environment environment) {
+    if (!config.isEnabled()) {
+      return RequestHedger.disabled();
+    }
+    // handed straight to a thread, so no attempt waits in a queue; the bulkhead admits at most
+    // maxConcurrentCalls hedged calls, each of which makes at most two attempts
+    int threads = 2 * resilienceConfig.getMaxConcurrentCalls();
+    ExecutorService executor =
+        environment
+            .lifecycle()
+            .executorService(name + "-hedging")
+            .minThreads(threads)
+            .maxThreads(threads)
+            .allowCoreThreadTimeOut(true)
+            .workQueue(new SynchronousQueue<>())
+            .build();
+    return new RequestHedger(name, config, executor, environment.metrics());
+  }
+
+  private ExecutorService buildFanOutExecutor(
+      String name, RequestExecutorConfig config, Environment environment) {
+    return environment
+        .lifecycle()
+        .executorService(name)
+        .minThreads(config.getFanOutThreads())
+        .maxThreads(config.getFanOutThreads())
+        .allowCoreThreadTimeOut(true)
+        .build();
+  }
+
   private void registerResources(
       DocumentStoreApiConfiguration configuration,
       Environment environment,
+      ExecutorService fanOutExecutor,
+      ObjectMapper objectMapper,
+      BsonJsonTranscoder bsonJsonTranscoder,
+      MongoDocumentStoreService documentStoreService,
+      PublicConceptsApiService publicConceptsApiService,
+      PublicConcordancesApiService publicConcordancesApiService) {
+    final Map<Pair<String, Operation>, HandlerChain> collections =
+        createHandlerChains(
+            configuration.getApiHost(),
+            fanOutExecutor,
+            objectMapper,
+            bsonJsonTranscoder,
+            documentStoreService,
+            publicConceptsApiService,
+            publicConcordancesApiService);
+
+    RequestCoalescer coalescer =
+        configuration.getRequestExecutor().isCoalesceReads()
+            ? new RequestCoalescer(environment.metrics())
+            : null;
+    environment.jersey().register(new DocumentResource(collections, coalescer));
+    environment
+        .jersey()
+        .register(new DocumentQueryResource(documentStoreService, configuration.getApiHost()));
+    environment
+        .jersey()
+        .register(new DocumentIDResource(documentStoreService, environment.metrics()));
+    environment
+        .jersey()
+        .register(
+            new DocumentBulkResource(
+                collections, documentStoreService, objectMapper, new UuidValidator()));
+    environment
+        .jersey()
+        .register(new DocumentChangesResource(collections, documentStoreService, objectMapper));
+  }
+
+  /** Top-level fields of content, complementary content and internal components. */
+  static final Set<String> CONTENT_FIELDS =
+      ImmutableSet.of(
+          "uuid",
+          "type",
+          "title",
+          "titles",
+          "alternativeTitles",
+          "standfirst",
+          "alternativeStandfirsts",
+          "byline",
+          "description",
+          "body",
+          "bodyXML",
+          "summary",
+          "topper",
+          "leadImages",
+          "mainImage",
+          "alternativeImages",
+          "members",
+          "brands",
+          "identifiers",
+          "mediaType",
+          "pixelWidth",
+          "pixelHeight",
+          "internalBinaryUrl",
+          "webUrl",
+          "canonicalWebUrl",
+          "canBeSyndicated",
+          "canBeDistributed",
+          "accessLevel",
+          "comments",
+          "publishedDate",
+          "firstPublishedDate",
+          "lastModified",
+          "publishReference");
+
+  /**
+   * Builds the handler chain served for each supported collection and operation.
+   *
+   * @param fanOutExecutor runs the steps of a chain that go ahead alongside each other
+   */
+  public static Map<Pair<String, Operation>, HandlerChain> createHandlerChains(
+      String apiHost,
+      Executor fanOutExecutor,
+      ObjectMapper objectMapper,
+      BsonJsonTranscoder bsonJsonTranscoder,
       MongoDocumentStoreService documentStoreService,
       PublicConceptsApiService publicConceptsApiService,
       PublicConcordancesApiService publicConcordancesApiService) {
@@ -165,8 +409,10 @@ public class DocumentStoreApiApplication extends Application<DocumentStoreApiCon
     Handler conceptUuidValidationHandler = new ConceptUuidValidationHandler(uuidValidator);
     Handler multipleUuidValidationHandler = new MultipleUuidValidationHandler(uuidValidator);
     Handler extractUuidsHandlers = new ExtractUuidsHandler();
+    Handler extractFieldsHandler = new ExtractFieldsHandler(CONTENT_FIELDS);
     Handler extractConceptHandler = new ExtractConceptHandler();
-    Handler contentListValidationHandler = new ContentListValidationHandler(contentListValidator);
+    Handler contentListValidationHandler =
+        new ContentListValidationHandler(contentListValidator, objectMapper);
     Handler preSaveFieldRemovalHandler = new PreSaveFieldRemovalHandler();
     Handler findListByUuidHandler = new FindListByUuidHandler(documentStoreService);
     Handler findListByConceptAndTypeHandler =
@@ -175,14 +421,20 @@ public class DocumentStoreApiApplication extends Application<DocumentStoreApiCon
         new GetConcordedConceptsHandler(publicConcordancesApiService);
     Handler findMultipleResourcesByUuidsHandler =
         new FindMultipleResourcesByUuidsHandler(documentStoreService);
-    Handler getSearchResultsHandler = new FilterListsHandler(documentStoreService);
-    Target findResourceByUuid = new FindResourceByUuidTarget(documentStoreService);
-    Target findMultipleResourcesByUuidsTarget =
-        new FindMultipleResourcesByUuidsTarget(documentStoreService);
+    // the concorded concepts are looked up while Mongo is queried for their lists
+    Handler getSearchResultsHandler =
+        new ParallelHandler(
+            fanOutExecutor,
+            new FilterListsHandler(documentStoreService),
+            new SearchConcordedConceptsHandler(publicConceptsApiService));
+    Target streamResourceByUuid =
+        new StreamResourceByUuidTarget(documentStoreService, bsonJsonTranscoder);
+    Target streamMultipleResourcesByUuids =
+        new StreamMultipleResourcesByUuidsTarget(documentStoreService, bsonJsonTranscoder);
     Target writeDocument = new WriteDocumentTarget(documentStoreService);
     Target deleteDocument = new DeleteDocumentTarget(documentStoreService);
     Target applyConcordedConceptToList =
-        new ApplyConcordedConceptToListTarget(publicConceptsApiService, configuration.getApiHost());
+        new ApplyConcordedConceptToListTarget(publicConceptsApiService, apiHost, objectMapper);
     Target applyConcordedConceptsToLists =
         new ApplyConcordedConceptsToListsTarget(publicConceptsApiService);
 
@@ -190,16 +442,18 @@ public class DocumentStoreApiApplication extends Application<DocumentStoreApiCon
     collections.put(
         new Pair<>("content", Operation.GET_FILTERED),
         new HandlerChain()
-            .addHandlers(extractUuidsHandlers, multipleUuidValidationHandler)
-            .setTarget(findMultipleResourcesByUuidsTarget));
+            .addHandlers(extractUuidsHandlers, multipleUuidValidationHandler, extractFieldsHandler)
+            .setTarget(streamMultipleResourcesByUuids));
     collections.put(
         new Pair<>("content", Operation.GET_MULTIPLE_FILTERED),
         new HandlerChain()
-            .addHandlers(multipleUuidValidationHandler)
-            .setTarget(findMultipleResourcesByUuidsTarget));
+            .addHandlers(multipleUuidValidationHandler, extractFieldsHandler)
+            .setTarget(streamMultipleResourcesByUuids));
     collections.put(
         new Pair<>("content", Operation.GET_BY_ID),
-        new HandlerChain().addHandlers(uuidValidationHandler).setTarget(findResourceByUuid));
+        new HandlerChain()
+            .addHandlers(uuidValidationHandler, extractFieldsHandler)
+            .setTarget(streamResourceByUuid));
     collections.put(
         new Pair<>("content", Operation.ADD),
         new HandlerChain()
@@ -212,16 +466,18 @@ public class DocumentStoreApiApplication extends Application<DocumentStoreApiCon
     collections.put(
         new Pair<>("complementarycontent", Operation.GET_FILTERED),
         new HandlerChain()
-            .addHandlers(extractUuidsHandlers, multipleUuidValidationHandler)
-            .setTarget(findMultipleResourcesByUuidsTarget));
+            .addHandlers(extractUuidsHandlers, multipleUuidValidationHandler, extractFieldsHandler)
+            .setTarget(streamMultipleResourcesByUuids));
     collections.put(
         new Pair<>("complementarycontent", Operation.GET_MULTIPLE_FILTERED),
         new HandlerChain()
-            .addHandlers(multipleUuidValidationHandler)
-            .setTarget(findMultipleResourcesByUuidsTarget));
+            .addHandlers(multipleUuidValidationHandler, extractFieldsHandler)
+            .setTarget(streamMultipleResourcesByUuids));
     collections.put(
         new Pair<>("complementarycontent", Operation.GET_BY_ID),
-        new HandlerChain().addHandlers(uuidValidationHandler).setTarget(findResourceByUuid));
+        new HandlerChain()
+            .addHandlers(uuidValidationHandler, extractFieldsHandler)
+            .setTarget(streamResourceByUuid));
     collections.put(
         new Pair<>("complementarycontent", Operation.ADD),
         new HandlerChain().addHandlers(uuidValidationHandler).setTarget(writeDocument));
@@ -232,16 +488,18 @@ public class DocumentStoreApiApplication extends Application<DocumentStoreApiCon
     collections.put(
         new Pair<>("internalcomponents", Operation.GET_FILTERED),
         new HandlerChain()
-            .addHandlers(extractUuidsHandlers, multipleUuidValidationHandler)
-            .setTarget(findMultipleResourcesByUuidsTarget));
+            .addHandlers(extractUuidsHandlers, multipleUuidValidationHandler, extractFieldsHandler)
+            .setTarget(streamMultipleResourcesByUuids));
     collections.put(
         new Pair<>("internalcomponents", Operation.GET_MULTIPLE_FILTERED),
         new HandlerChain()
-            .addHandlers(multipleUuidValidationHandler)
-            .setTarget(findMultipleResourcesByUuidsTarget));
+            .addHandlers(multipleUuidValidationHandler, extractFieldsHandler)
+            .setTarget(streamMultipleResourcesByUuids));
     collections.put(
         new Pair<>("internalcomponents", Operation.GET_BY_ID),
-        new HandlerChain().addHandlers(uuidValidationHandler).setTarget(findResourceByUuid));
+        new HandlerChain()
+            .addHandlers(uuidValidationHandler, extractFieldsHandler)
+            .setTarget(streamResourceByUuid));
     collections.put(
         new Pair<>("internalcomponents", Operation.ADD),
         new HandlerChain().addHandlers(uuidValidationHandler).setTarget(writeDocument));
@@ -309,11 +567,7 @@ public class DocumentStoreApiApplication extends Application<DocumentStoreApiCon
         new Pair<>("generic-lists", Operation.REMOVE),
         new HandlerChain().addHandlers(uuidValidationHandler).setTarget(deleteDocument));
 
-    environment.jersey().register(new DocumentResource(collections));
-    environment
-        .jersey()
-        .register(new DocumentQueryResource(documentStoreService, configuration.getApiHost()));
-    environment.jersey().register(new DocumentIDResource(documentStoreService));
+    return collections;
   }
 
   private void registerHealthChecks(
@@ -8,6 +8,8 @@ import com.ft.platform.dropwizard.GTGConfig;
 import com.ft.universalpublishing.documentstore.health.HealthcheckParameters;
 import io.dropwizard.Configuration;
 import io.federecio.dropwizard.swagger.SwaggerBundleConfiguration;
+import java.util.HashMap;
+import java.util.Map;
 
 public class DocumentStoreApiConfiguration extends Configuration
     implements ConfigWithAppInfo, ConfigWithGTG {
@@ -17,6 +19,10 @@ public class DocumentStoreApiConfiguration extends Configuration
   @JsonProperty("swagger")
   public SwaggerBundleConfiguration swaggerBundleConfiguration;
 
+  @JsonProperty private Map<String, CacheConfig> documentCache = new HashMap<>();
+
+  @JsonProperty private RequestExecutorConfig requestExecutor = new RequestExecutorConfig();
+
   private final String apiHost;
   private final MongoConfig mongo;
   private final PublicConceptsApiConfig publicConceptsApiConfig;
@@ -65,6 +71,14 @@ public class DocumentStoreApiConfiguration extends Configuration
     return cacheTtl;
   }
 
+  public Map<String, CacheConfig> getDocumentCache() {
+    return documentCache;
+  }
+
+  public RequestExecutorConfig getRequestExecutor() {
+    return requestExecutor;
+  }
+
   public HealthcheckParameters getConnectionHealthcheckParameters() {
     return connectionHealthcheckParameters;
   }
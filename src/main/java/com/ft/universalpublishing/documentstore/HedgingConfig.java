@@ -0,0 +1,39 @@
+package com.ft.universalpublishing.documentstore;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dropwizard.util.Duration;
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.DecimalMin;
+import javax.validation.constraints.Min;
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+@Data
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@NoArgsConstructor
+public class HedgingConfig {
+
+  @JsonProperty boolean enabled = false;
+
+  // a second request goes out once the first has taken longer than this percentile of recent calls
+  @DecimalMin("50.0")
+  @DecimalMax("99.9")
+  @JsonProperty
+  double percentile = 95.0;
+
+  // lower bound on the delay, which also applies until enough calls have been timed
+  @JsonProperty Duration minDelay = Duration.milliseconds(50);
+
+  // fraction of requests that may be hedged, on average
+  @DecimalMin("0.0")
+  @DecimalMax("1.0")
+  @JsonProperty
+  double budget = 0.05;
+
+  // hedges that may go out back to back once the budget has built up
+  @Min(1)
+  @JsonProperty
+  int maxBurst = 10;
+}
@@ -0,0 +1,22 @@
+package com.ft.universalpublishing.documentstore;
+
+import io.dropwizard.client.JerseyClientConfiguration;
+import io.dropwizard.util.Duration;
+
+/**
+ * Connection pool and timeouts for the client of one of the public APIs. The defaults bound every
+ * call well within a request's own budget, keep idle connections open between bursts, and do not
+ * gzip request bodies, which the APIs do not accept.
+ */
+public class PublicApiClientConfig extends JerseyClientConfiguration {
+
+  public PublicApiClientConfig() {
+    setTimeout(Duration.seconds(2));
+    setConnectionTimeout(Duration.milliseconds(500));
+    setConnectionRequestTimeout(Duration.milliseconds(500));
+    setKeepAlive(Duration.seconds(30));
+    setMaxConnections(256);
+    setMaxConnectionsPerRoute(256);
+    setGzipEnabledForRequests(false);
+  }
+}
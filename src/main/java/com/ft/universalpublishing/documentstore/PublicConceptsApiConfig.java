@@ -2,6 +2,8 @@ package com.ft.universalpublishing.documentstore;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.ft.universalpublishing.documentstore.health.HealthcheckParameters;
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
 import lombok.AccessLevel;
 import lombok.Data;
 import lombok.experimental.FieldDefaults;
@@ -13,4 +15,16 @@ public class PublicConceptsApiConfig {
   @JsonProperty String host;
 
   @JsonProperty HealthcheckParameters healthcheckParameters;
+
+  @Valid @NotNull @JsonProperty PublicApiClientConfig httpClient = new PublicApiClientConfig();
+
+  @Valid @NotNull @JsonProperty ApiResilienceConfig resilience = new ApiResilienceConfig();
+
+  @Valid @NotNull @JsonProperty HedgingConfig hedging = new HedgingConfig();
+
+  @Valid @NotNull @JsonProperty BatchingConfig batching = new BatchingConfig();
+
+  @JsonProperty CacheConfig conceptCache = new CacheConfig();
+
+  @JsonProperty CacheConfig missingConceptCache = new CacheConfig();
 }
@@ -2,6 +2,8 @@ package com.ft.universalpublishing.documentstore;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.ft.universalpublishing.documentstore.health.HealthcheckParameters;
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
 import lombok.AccessLevel;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -15,4 +17,10 @@ public class PublicConcordancesApiConfig {
   @JsonProperty String host;
 
   @JsonProperty HealthcheckParameters healthcheckParameters;
+
+  @Valid @NotNull @JsonProperty PublicApiClientConfig httpClient = new PublicApiClientConfig();
+
+  @Valid @NotNull @JsonProperty ApiResilienceConfig resilience = new ApiResilienceConfig();
+
+  @JsonProperty RefreshingCacheConfig concordanceCache = new RefreshingCacheConfig();
 }
@@ -0,0 +1,19 @@
+package com.ft.universalpublishing.documentstore;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dropwizard.util.Duration;
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+@Data
+@EqualsAndHashCode(callSuper = true)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@NoArgsConstructor
+public class RefreshingCacheConfig extends CacheConfig {
+
+  // entries older than this are reloaded in the background while the stale value is served
+  @JsonProperty Duration refreshAfterWrite = Duration.minutes(5);
+}
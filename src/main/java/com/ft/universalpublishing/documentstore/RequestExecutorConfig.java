@@ -0,0 +1,23 @@
+package com.ft.universalpublishing.documentstore;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import javax.validation.constraints.Min;
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+@Data
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@NoArgsConstructor
+public class RequestExecutorConfig {
+
+  // threads for the calls a request fans out to; Jetty's default maxThreads, so every request
+  // thread can have one in flight; idle threads are let go
+  @Min(1)
+  @JsonProperty
+  int fanOutThreads = 1024;
+
+  // identical reads in flight at the same time share one execution of their handler chain
+  @JsonProperty boolean coalesceReads = true;
+}
@@ -0,0 +1,111 @@
+package com.ft.universalpublishing.documentstore.clients;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.ft.universalpublishing.documentstore.ApiResilienceConfig;
+import com.ft.universalpublishing.documentstore.exception.ExternalSystemUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import javax.ws.rs.core.Response;
+
+/**
+ * Guards the calls made to one public API with a bulkhead, which bounds how many threads can be
+ * waiting on it, and a circuit breaker, which stops calling it while it is failing or slow.
+ *
+ * <p>The bulkhead is a semaphore: calls still run on the caller's thread, and each API gets its
+ * own limit on those threads rather than its own thread pool.
+ *
+ * <p>A call that is not let through, or that fails to get a response, throws {@link
+ * ExternalSystemUnavailableException}, so callers can fall back to the data they already have.
+ * Server errors are returned to the caller as they are, but count as failures.
+ */
+public class ApiCallGuard {
+
+  private final String name;
+  private final Bulkhead bulkhead;
+  private final CircuitBreaker circuitBreaker;
+  private final Meter rejected;
+
+  public ApiCallGuard(String name, ApiResilienceConfig config, MetricRegistry metrics) {
+    this.name = name;
+    this.bulkhead =
+        Bulkhead.of(
+            name,
+            BulkheadConfig.custom()
+                .maxConcurrentCalls(config.getMaxConcurrentCalls())
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+    this.circuitBreaker =
+        CircuitBreaker.of(
+            name,
+            CircuitBreakerConfig.custom()
+                .failureRateThreshold(config.getFailureRateThreshold())
+                .slowCallRateThreshold(config.getSlowCallRateThreshold())
+                .slowCallDurationThreshold(
+                    Duration.ofMillis(config.getSlowCallDurationThreshold().toMilliseconds()))
+                .slidingWindowSize(config.getSlidingWindowSize())
+                .minimumNumberOfCalls(config.getMinimumNumberOfCalls())
+                .waitDurationInOpenState(
+                    Duration.ofMillis(config.getWaitDurationInOpenState().toMilliseconds()))
+                .permittedNumberOfCallsInHalfOpenState(config.getPermittedCallsInHalfOpenState())
+                .build());
+    this.rejected = metrics.meter(MetricRegistry.name(ApiCallGuard.class, name, "rejected"));
+    metrics.register(
+        MetricRegistry.name(ApiCallGuard.class, name, "state"),
+        (Gauge<String>) () -> circuitBreaker.getState().name());
+    metrics.register(
+        MetricRegistry.name(ApiCallGuard.class, name, "available-concurrent-calls"),
+        (Gauge<Integer>) () -> bulkhead.getMetrics().getAvailableConcurrentCalls());
+  }
+
+  /** A guard with the default limits, for services built without one. */
+  public static ApiCallGuard ofDefaults(String name) {
+    return new ApiCallGuard(name, new ApiResilienceConfig(), new MetricRegistry());
+  }
+
+  public CircuitBreaker.State getState() {
+    return circuitBreaker.getState();
+  }
+
+  public Response call(Supplier<Response> request) {
+    if (!bulkhead.tryAcquirePermission()) {
+      rejected.mark();
+      throw new ExternalSystemUnavailableException(name + " has too many calls in flight");
+    }
+    try {
+      if (!circuitBreaker.tryAcquirePermission()) {
+        rejected.mark();
+        throw new ExternalSystemUnavailableException(
+            name + " circuit breaker is " + circuitBreaker.getState());
+      }
+      long start = System.nanoTime();
+      Response response;
+      try {
+        response = request.get();
+      } catch (RuntimeException e) {
+        circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, e);
+        throw new ExternalSystemUnavailableException(name + " call failed", e);
+      }
+      long duration = System.nanoTime() - start;
+      if (Response.Status.Family.familyOf(response.getStatus())
+          == Response.Status.Family.SERVER_ERROR) {
+        circuitBreaker.onError(
+            duration,
+            TimeUnit.NANOSECONDS,
+            new ExternalSystemUnavailableException(
+                name + " responded with status " + response.getStatus()));
+      } else {
+        circuitBreaker.onSuccess(duration, TimeUnit.NANOSECONDS);
+      }
+      return response;
+    } finally {
+      bulkhead.onComplete();
+    }
+  }
+}
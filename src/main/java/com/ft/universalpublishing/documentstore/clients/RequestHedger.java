@@ -0,0 +1,184 @@
+package com.ft.universalpublishing.documentstore.clients;
+
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.SlidingTimeWindowArrayReservoir;
+import com.codahale.metrics.Timer;
+import com.ft.universalpublishing.documentstore.HedgingConfig;
+import com.google.common.base.Throwables;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import javax.ws.rs.core.Response;
+
+/**
+ * Sends a second, identical request when the first has not answered within a percentile of recent
+ * latencies, and returns whichever response arrives first. The response that loses is closed.
+ *
+ * <p>Hedges are limited by a budget that grows by {@link HedgingConfig#getBudget()} for every
+ * request, so they add a bounded fraction of load to the API, even while it is slow throughout.
+ *
+ * <p>Attempts run on the given executor, leaving the calling thread free to take whichever answers
+ * first. It should hand attempts straight to a thread rather than queue them, as time spent in a
+ * queue would count towards the hedge delay. When it has no thread free, the request is made on
+ * the calling thread without a hedge, and a hedge that cannot start counts as over budget.
+ */
+public class RequestHedger {
+
+  private static final long DELAY_REFRESH_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+  private final HedgingConfig config;
+  private final Executor executor;
+  private final Timer latency;
+  private final Meter requests;
+  private final Meter hedges;
+  private final Meter wins;
+  private final Meter overBudget;
+  private final long minDelayNanos;
+
+  // starts empty, so hedges are earned by requests rather than sent as a burst on startup
+  private double tokens;
+  private volatile long delayNanos;
+  private volatile long delayRefreshedAt;
+
+  public RequestHedger(
+      String name, HedgingConfig config, Executor executor, MetricRegistry metrics) {
+    this.config = config;
+    this.executor = executor;
+    this.latency =
+        metrics.timer(
+            MetricRegistry.name(RequestHedger.class, name, "latency"),
+            () -> new Timer(new SlidingTimeWindowArrayReservoir(1, TimeUnit.MINUTES)));
+    this.requests = metrics.meter(MetricRegistry.name(RequestHedger.class, name, "requests"));
+    this.hedges = metrics.meter(MetricRegistry.name(RequestHedger.class, name, "hedges"));
+    this.wins = metrics.meter(MetricRegistry.name(RequestHedger.class, name, "wins"));
+    this.overBudget = metrics.meter(MetricRegistry.name(RequestHedger.class, name, "over-budget"));
+    this.minDelayNanos = TimeUnit.MILLISECONDS.toNanos(config.getMinDelay().toMilliseconds());
+    this.delayNanos = minDelayNanos;
+    this.delayRefreshedAt = System.nanoTime();
+  }
+
+  /** A hedger that makes every request once, on the calling thread. */
+  public static RequestHedger disabled() {
+    return new RequestHedger("disabled", new HedgingConfig(), Runnable::run, new MetricRegistry());
+  }
+
+  public Response call(Supplier<Response> request) {
+    if (!config.isEnabled()) {
+      return request.get();
+    }
+
+    requests.mark();
+    addToBudget();
+    CompletableFuture<Response> first;
+    try {
+      first = attempt(request);
+    } catch (RejectedExecutionException e) {
+      // every attempt thread is busy, so this one is made on the calling thread, unhedged
+      return timed(request);
+    }
+    try {
+      return first.get(delay(), TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      if (!takeFromBudget()) {
+        overBudget.mark();
+        return join(first);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      first.thenAccept(Response::close);
+      throw new IllegalStateException("Interrupted waiting for a response", e);
+    } catch (ExecutionException e) {
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new IllegalStateException(e.getCause());
+    }
+
+    CompletableFuture<Response> hedge;
+    try {
+      hedge = attempt(request);
+    } catch (RejectedExecutionException e) {
+      overBudget.mark();
+      return join(first);
+    }
+    hedges.mark();
+    CompletableFuture<Response> winner = new CompletableFuture<>();
+    AtomicInteger outstanding = new AtomicInteger(2);
+    first.whenComplete((response, error) -> settle(winner, outstanding, response, error));
+    hedge.whenComplete((response, error) -> settle(winner, outstanding, response, error));
+    Response response = join(winner);
+    // the winning attempt has completed by the time its response is returned
+    if (hedge.handle((hedged, error) -> hedged).getNow(null) == response) {
+      wins.mark();
+    }
+    return response;
+  }
+
+  long delayNanos() {
+    return delayNanos;
+  }
+
+  /** @throws RejectedExecutionException if the executor has no thread free for the attempt */
+  private CompletableFuture<Response> attempt(Supplier<Response> request) {
+    return CompletableFuture.supplyAsync(() -> timed(request), executor);
+  }
+
+  private Response timed(Supplier<Response> request) {
+    Timer.Context timing = latency.time();
+    Response response = request.get();
+    timing.stop();
+    return response;
+  }
+
+  // the first response wins; a failure only counts once both attempts have failed
+  private void settle(
+      CompletableFuture<Response> winner,
+      AtomicInteger outstanding,
+      Response response,
+      Throwable error) {
+    boolean last = outstanding.decrementAndGet() == 0;
+    if (error == null) {
+      if (!winner.complete(response)) {
+        response.close();
+      }
+    } else if (last) {
+      winner.completeExceptionally(error);
+    }
+  }
+
+  private long delay() {
+    long now = System.nanoTime();
+    if (now - delayRefreshedAt > DELAY_REFRESH_NANOS) {
+      delayRefreshedAt = now;
+      double percentile = latency.getSnapshot().getValue(config.getPercentile() / 100);
+      delayNanos = Math.max(minDelayNanos, (long) percentile);
+    }
+    return delayNanos;
+  }
+
+  private synchronized void addToBudget() {
+    tokens = Math.min(config.getMaxBurst(), tokens + config.getBudget());
+  }
+
+  private synchronized boolean takeFromBudget() {
+    if (tokens < 1) {
+      return false;
+    }
+    tokens--;
+    return true;
+  }
+
+  private static Response join(CompletableFuture<Response> response) {
+    try {
+      return response.join();
+    } catch (CompletionException e) {
+      Throwables.throwIfUnchecked(e.getCause());
+      throw e;
+    }
+  }
+}
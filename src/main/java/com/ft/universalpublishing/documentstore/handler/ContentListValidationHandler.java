@@ -8,15 +8,16 @@ import com.ft.universalpublishing.documentstore.validators.ContentListValidator;
 public class ContentListValidationHandler implements Handler {
 
   private ContentListValidator validator;
+  private ObjectMapper objectMapper;
 
-  public ContentListValidationHandler(ContentListValidator validator) {
+  public ContentListValidationHandler(ContentListValidator validator, ObjectMapper objectMapper) {
     this.validator = validator;
+    this.objectMapper = objectMapper;
   }
 
   @Override
   public void handle(Context context) {
-    ContentList contentList =
-        new ObjectMapper().convertValue(context.getContentMap(), ContentList.class);
+    ContentList contentList = objectMapper.convertValue(context.getContentMap(), ContentList.class);
     validator.validate(context.getUuid(), contentList);
   }
 }
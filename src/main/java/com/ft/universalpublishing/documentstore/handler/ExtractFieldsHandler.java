@@ -0,0 +1,50 @@
+package com.ft.universalpublishing.documentstore.handler;
+
+import com.ft.universalpublishing.documentstore.exception.ValidationException;
+import com.ft.universalpublishing.documentstore.model.read.Context;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Reads the optional {@code fields} query parameter, either comma separated or repeated, and checks
+ * each field against the ones that may be projected.
+ */
+public class ExtractFieldsHandler implements Handler {
+
+  private final Set<String> allowedFields;
+
+  public ExtractFieldsHandler(Set<String> allowedFields) {
+    this.allowedFields = allowedFields;
+  }
+
+  @Override
+  public void handle(Context context) {
+    if (context.getUriInfo() == null) {
+      return;
+    }
+    List<String> values = context.getUriInfo().getQueryParameters().get("fields");
+    if (values == null) {
+      return;
+    }
+
+    Set<String> fields = new LinkedHashSet<>();
+    for (String value : values) {
+      for (String field : value.split(",")) {
+        field = field.trim();
+        if (field.isEmpty()) {
+          continue;
+        }
+        if (!allowedFields.contains(field)) {
+          throw new ValidationException(
+              String.format("invalid fields: %s, must be any of %s", field, allowedFields));
+        }
+        fields.add(field);
+      }
+    }
+    if (fields.isEmpty()) {
+      throw new ValidationException("invalid fields: no field names given");
+    }
+    context.setFields(fields);
+  }
+}
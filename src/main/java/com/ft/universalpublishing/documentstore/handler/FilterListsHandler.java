@@ -1,11 +1,10 @@
 package com.ft.universalpublishing.documentstore.handler;
 
 import com.ft.universalpublishing.documentstore.model.read.Context;
+import com.ft.universalpublishing.documentstore.service.ListPage;
 import com.ft.universalpublishing.documentstore.service.MongoDocumentStoreService;
-import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
-import org.bson.Document;
 
 @RequiredArgsConstructor
 public class FilterListsHandler implements Handler {
@@ -15,10 +14,16 @@ public class FilterListsHandler implements Handler {
   @Override
   public void handle(Context context) {
     UUID[] conceptUUIDs = (UUID[]) context.getParameter("conceptUUIDs");
-    List<Document> listDocuments =
+    ListPage page =
         documentStoreService.filterLists(
-            context.getCollection(), conceptUUIDs, context.getListType(), context.getSearchTerm());
+            context.getCollection(),
+            conceptUUIDs,
+            context.getListType(),
+            context.getSearchTerm(),
+            context.getLimit(),
+            context.getAfter());
 
-    context.setDocuments(listDocuments);
+    context.setDocuments(page.getDocuments());
+    context.setNext(page.getNext());
   }
 }
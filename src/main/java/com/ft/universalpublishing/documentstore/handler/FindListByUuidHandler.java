@@ -1,10 +1,11 @@
 package com.ft.universalpublishing.documentstore.handler;
 
 import com.ft.universalpublishing.documentstore.model.read.Context;
+import com.ft.universalpublishing.documentstore.service.DocumentVersion;
 import com.ft.universalpublishing.documentstore.service.MongoDocumentStoreService;
-import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.bson.RawBsonDocument;
 
 @RequiredArgsConstructor
 public class FindListByUuidHandler implements Handler {
@@ -13,9 +14,10 @@ public class FindListByUuidHandler implements Handler {
 
   @Override
   public void handle(Context context) {
-    Map<String, Object> contentMap =
-        documentStoreService.findByUuid(
+    RawBsonDocument document =
+        documentStoreService.findRawByUuid(
             context.getCollection(), UUID.fromString(context.getUuid()));
-    context.setContentMap(contentMap);
+    context.setContentMap(documentStoreService.decode(document));
+    context.setVersion(DocumentVersion.of(document));
   }
 }
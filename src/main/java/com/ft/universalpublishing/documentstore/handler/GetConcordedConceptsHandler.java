@@ -2,9 +2,11 @@ package com.ft.universalpublishing.documentstore.handler;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.ft.api.jaxrs.errors.ClientError;
+import com.ft.universalpublishing.documentstore.exception.ExternalSystemUnavailableException;
 import com.ft.universalpublishing.documentstore.model.read.Concordance;
 import com.ft.universalpublishing.documentstore.model.read.Context;
 import com.ft.universalpublishing.documentstore.service.PublicConcordancesApiService;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 import javax.servlet.http.HttpServletResponse;
@@ -27,8 +29,13 @@ public class GetConcordedConceptsHandler implements Handler {
     }
 
     try {
-      final List<Concordance> uppConcordances =
-          publicConcordancesApiService.getUPPConcordances(conceptUUID);
+      List<Concordance> uppConcordances;
+      try {
+        uppConcordances = publicConcordancesApiService.getUPPConcordances(conceptUUID);
+      } catch (ExternalSystemUnavailableException e) {
+        // lists are then only looked up by the concept they were asked for
+        uppConcordances = Collections.emptyList();
+      }
       UUID[] conceptUUIDs =
           uppConcordances.stream()
               .map(concordance -> UUID.fromString(concordance.getIdentifier().getIdentifierValue()))
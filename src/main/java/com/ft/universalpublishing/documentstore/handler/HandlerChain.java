@@ -31,10 +31,15 @@ public class HandlerChain {
   }
 
   public Object execute(Context context) {
-    handlers.forEach(handler -> handler.handle(context));
+    executeHandlers(context);
     return target.execute(context);
   }
 
+  /** Runs the handlers only, for callers that take over the target's work themselves. */
+  public void executeHandlers(Context context) {
+    handlers.forEach(handler -> handler.handle(context));
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
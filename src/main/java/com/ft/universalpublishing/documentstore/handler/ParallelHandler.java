@@ -0,0 +1,57 @@
+package com.ft.universalpublishing.documentstore.handler;
+
+import com.ft.universalpublishing.documentstore.model.read.Context;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Runs handlers that do not depend on each other's results at the same time, so a chain step that
+ * waits on several systems takes as long as the slowest of them rather than their sum. The first
+ * handler runs on the calling thread and the rest on the given executor; the step completes once
+ * all of them have, failing with the first handler's failure in the order given.
+ *
+ * <p>The handlers must write to different parts of the {@link Context}.
+ */
+public class ParallelHandler implements Handler {
+
+  private final Executor executor;
+  private final List<Handler> handlers;
+
+  public ParallelHandler(Executor executor, Handler... handlers) {
+    this.executor = executor;
+    this.handlers = Arrays.asList(handlers);
+  }
+
+  @Override
+  public void handle(Context context) {
+    List<CompletableFuture<Void>> forked = new ArrayList<>(handlers.size() - 1);
+    for (Handler handler : handlers.subList(1, handlers.size())) {
+      forked.add(CompletableFuture.runAsync(() -> handler.handle(context), executor));
+    }
+
+    RuntimeException failure = null;
+    try {
+      handlers.get(0).handle(context);
+    } catch (RuntimeException e) {
+      failure = e;
+    }
+    // waits for every handler, so none is still writing to the context once this returns
+    for (CompletableFuture<Void> handled : forked) {
+      try {
+        handled.join();
+      } catch (CompletionException e) {
+        if (failure == null) {
+          failure =
+              e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+  }
+}
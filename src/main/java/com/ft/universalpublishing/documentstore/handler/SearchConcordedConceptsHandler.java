@@ -0,0 +1,55 @@
+package com.ft.universalpublishing.documentstore.handler;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.ft.api.jaxrs.errors.ClientError;
+import com.ft.universalpublishing.documentstore.exception.ExternalSystemUnavailableException;
+import com.ft.universalpublishing.documentstore.model.read.Concept;
+import com.ft.universalpublishing.documentstore.model.read.Context;
+import com.ft.universalpublishing.documentstore.service.PublicConceptsApiService;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import javax.servlet.http.HttpServletResponse;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Looks up the concepts concorded by {@link GetConcordedConceptsHandler}. Lists found for those
+ * concepts can only refer to them, so this can run alongside the list query rather than after it.
+ */
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class SearchConcordedConceptsHandler implements Handler {
+
+  public static final String CONCEPTS = "concepts";
+
+  PublicConceptsApiService publicConceptsApiService;
+
+  @Override
+  public void handle(final Context context) {
+    final UUID[] conceptUUIDs = (UUID[]) context.getParameter("conceptUUIDs");
+
+    if (conceptUUIDs == null) {
+      return;
+    }
+
+    try {
+      List<Concept> concepts;
+      try {
+        concepts =
+            publicConceptsApiService.searchConcepts(
+                Arrays.stream(conceptUUIDs).map(UUID::toString).toArray(String[]::new));
+      } catch (ExternalSystemUnavailableException e) {
+        // the lists found keep the concepts stored with them
+        concepts = Collections.emptyList();
+      }
+      context.addParameter(CONCEPTS, concepts);
+    } catch (final JsonProcessingException e) {
+      throw ClientError.status(HttpServletResponse.SC_INTERNAL_SERVER_ERROR)
+          .error(e.getMessage())
+          .exception();
+    }
+  }
+}
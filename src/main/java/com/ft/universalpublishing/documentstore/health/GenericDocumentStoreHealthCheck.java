@@ -2,6 +2,8 @@ package com.ft.universalpublishing.documentstore.health;
 
 import com.ft.platform.dropwizard.AdvancedHealthCheck;
 import com.ft.platform.dropwizard.AdvancedResult;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import java.util.Optional;
 
 public class GenericDocumentStoreHealthCheck extends AdvancedHealthCheck {
 
@@ -17,11 +19,30 @@ public class GenericDocumentStoreHealthCheck extends AdvancedHealthCheck {
 
   @Override
   protected AdvancedResult checkAdvanced() {
-    if (service.isHealthcheckOK()) {
-      return AdvancedResult.healthy("OK");
+    Optional<CircuitBreaker.State> circuitBreakerState = service.getCircuitBreakerState();
+    if (!service.isHealthcheckOK()) {
+      return AdvancedResult.error(
+          this,
+          healthcheckParameters.getTechnicalSummary()
+              + circuitBreakerState.map(state -> ". Circuit breaker is " + state).orElse(""));
     }
 
-    return AdvancedResult.error(this, healthcheckParameters.getTechnicalSummary());
+    // the dependency may answer its own checks while calls to it are still failing or slow
+    if (circuitBreakerState.filter(GenericDocumentStoreHealthCheck::isOpen).isPresent()) {
+      return AdvancedResult.error(
+          this,
+          "Circuit breaker is "
+              + circuitBreakerState.get()
+              + ", calls are failing fast and stored data is served instead");
+    }
+
+    return AdvancedResult.healthy("OK");
+  }
+
+  private static boolean isOpen(CircuitBreaker.State state) {
+    return state == CircuitBreaker.State.OPEN
+        || state == CircuitBreaker.State.HALF_OPEN
+        || state == CircuitBreaker.State.FORCED_OPEN;
   }
 
   @Override
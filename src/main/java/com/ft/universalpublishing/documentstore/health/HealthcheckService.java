@@ -1,5 +1,13 @@
 package com.ft.universalpublishing.documentstore.health;
 
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import java.util.Optional;
+
 public interface HealthcheckService {
   public boolean isHealthcheckOK();
+
+  /** The state of the circuit breaker guarding calls to this dependency, if there is one. */
+  default Optional<CircuitBreaker.State> getCircuitBreakerState() {
+    return Optional.empty();
+  }
 }
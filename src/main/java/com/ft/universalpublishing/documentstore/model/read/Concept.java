@@ -43,6 +43,14 @@ public class Concept {
         .toString();
   }
 
+  public Concept copy() {
+    Concept copy = new Concept(uuid, prefLabel);
+    copy.setId(id);
+    copy.setApiUrl(apiUrl);
+    copy.setOriginalUUID(originalUUID);
+    return copy;
+  }
+
   public String extractConceptUuid() {
     String uuidString = null;
     if (uuid != null) {
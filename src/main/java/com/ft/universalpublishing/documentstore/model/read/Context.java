@@ -1,13 +1,15 @@
 package com.ft.universalpublishing.documentstore.model.read;
 
+import com.ft.universalpublishing.documentstore.service.DocumentVersion;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.UriInfo;
 import lombok.Data;
 import org.bson.Document;
@@ -25,19 +27,37 @@ public class Context {
 
   private Set<UUID> validatedUuids;
 
+  /** Top-level fields requested with {@code ?fields=}, or {@code null} for whole documents. */
+  private Set<String> fields;
+
   private UriInfo uriInfo;
 
   private HttpHeaders httpHeaders;
 
+  /** Set for reads that honour conditional request headers. */
+  private Request request;
+
+  /** The stored version of the document read by uuid, which its response is tagged from. */
+  private DocumentVersion version;
+
   private String conceptUUID;
   private String listType;
   private String searchTerm;
 
+  /** The page size and token asked for by a list search. */
+  private Integer limit;
+
+  private String after;
+
+  /** The token for the page after the searched one, or {@code null} on the last page. */
+  private String next;
+
   private List<Document> documents;
 
   public Context() {
     uuids = new ArrayList<>();
-    map = new HashMap<>();
+    // handlers in a ParallelHandler add parameters concurrently
+    map = new ConcurrentHashMap<>();
   }
 
   public List<Document> getDocuments() {
@@ -0,0 +1,346 @@
+package com.ft.universalpublishing.documentstore.resources;
+
+import static java.time.format.DateTimeFormatter.ISO_INSTANT;
+
+import com.codahale.metrics.annotation.Timed;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.ft.universalpublishing.documentstore.handler.HandlerChain;
+import com.ft.universalpublishing.documentstore.model.read.Context;
+import com.ft.universalpublishing.documentstore.model.read.Operation;
+import com.ft.universalpublishing.documentstore.model.read.Pair;
+import com.ft.universalpublishing.documentstore.service.MongoDocumentStoreService;
+import com.ft.universalpublishing.documentstore.validators.UuidValidator;
+import com.ft.universalpublishing.documentstore.write.BulkItemResult;
+import com.savoirtech.logging.slf4j.json.LoggerFactory;
+import com.savoirtech.logging.slf4j.json.logger.Logger;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.ws.rs.*;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.StreamingOutput;
+
+/**
+ * Writes or deletes many documents per request. Each written document runs through the
+ * collection's {@code ADD} handlers exactly as a single PUT would; the ones that pass are upserted
+ * in batches of {@link #BATCH_SIZE}. Deletes are validated and issued in batches of the same size.
+ *
+ * <p>Results are streamed back as newline delimited JSON, one line per input line in input order,
+ * as each batch is done with, so that a request of any size holds no more than a batch in memory.
+ */
+@Api(tags = {"collections"})
+@Path("/")
+public class DocumentBulkResource {
+
+  public static final String APPLICATION_NDJSON = "application/x-ndjson";
+  static final int BATCH_SIZE = 500;
+
+  private static final String appName = "document-store-api";
+
+  private final Map<Pair<String, Operation>, HandlerChain> collections;
+  private final MongoDocumentStoreService documentStoreService;
+  private final ObjectReader documentReader;
+  private final ObjectWriter resultWriter;
+  private final UuidValidator uuidValidator;
+  private final Logger LOGGER = LoggerFactory.getLogger(DocumentBulkResource.class);
+
+  public DocumentBulkResource(
+      Map<Pair<String, Operation>, HandlerChain> collections,
+      MongoDocumentStoreService documentStoreService,
+      ObjectMapper objectMapper,
+      UuidValidator uuidValidator) {
+    this.collections = collections;
+    this.documentStoreService = documentStoreService;
+    this.documentReader = objectMapper.readerFor(new TypeReference<Map<String, Object>>() {});
+    // results are written one after another to the response, which is flushed per batch
+    this.resultWriter =
+        objectMapper
+            .writerFor(BulkItemResult.class)
+            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    this.uuidValidator = uuidValidator;
+  }
+
+  @ApiOperation(
+      value =
+          "Create or update documents in the specified collection from newline delimited JSON, returning a result per document")
+  @POST
+  @Timed
+  @Path("/{collection}/__bulk")
+  @Consumes(APPLICATION_NDJSON)
+  @Produces(APPLICATION_NDJSON)
+  public StreamingOutput bulkWrite(
+      @PathParam("collection") String collection, InputStream documents) {
+    HandlerChain handlerChain =
+        DocumentResource.findHandlerChain(collections, collection, Operation.ADD);
+    return output -> bulkWrite(collection, handlerChain, documents, new Results(output));
+  }
+
+  private void bulkWrite(
+      String collection, HandlerChain handlerChain, InputStream documents, Results results)
+      throws IOException {
+    List<Map<String, Object>> batch = new ArrayList<>(BATCH_SIZE);
+    Set<String> batchUuids = new HashSet<>();
+    BufferedReader reader =
+        new BufferedReader(new InputStreamReader(documents, StandardCharsets.UTF_8));
+    String line;
+    int lineNumber = 0;
+    while ((line = reader.readLine()) != null) {
+      lineNumber++;
+      if (line.trim().isEmpty()) {
+        continue;
+      }
+      if (results.pending() == BATCH_SIZE) {
+        flush(collection, batch, results);
+        batchUuids.clear();
+      }
+
+      Map<String, Object> contentMap;
+      try {
+        contentMap = documentReader.readValue(line);
+      } catch (JsonProcessingException e) {
+        contentMap = null;
+      }
+      if (contentMap == null) {
+        results.add(BulkItemResult.failed(null, "invalid JSON document on line " + lineNumber));
+        continue;
+      }
+
+      String uuid = contentMap.get("uuid") == null ? null : contentMap.get("uuid").toString();
+      Context context = new Context();
+      context.setCollection(collection);
+      context.setUuids(uuid);
+      context.setContentMap(contentMap);
+      try {
+        handlerChain.executeHandlers(context);
+      } catch (WebApplicationException e) {
+        BulkItemResult failed = BulkItemResult.failed(uuid, e.getMessage());
+        log(collection, contentMap, failed);
+        results.add(failed);
+        continue;
+      }
+
+      // two upserts of the same uuid in one unordered batch would race each other
+      if (!batchUuids.add(uuid)) {
+        flush(collection, batch, results);
+        batchUuids.clear();
+        batchUuids.add(uuid);
+      }
+      batch.add(context.getContentMap());
+      results.reserve();
+    }
+    flush(collection, batch, results);
+  }
+
+  @ApiOperation(
+      value =
+          "Delete documents from the specified collection given one uuid per line, returning a result per uuid")
+  @POST
+  @Timed
+  @Path("/{collection}/__bulk-delete")
+  @Consumes({MediaType.TEXT_PLAIN, APPLICATION_NDJSON})
+  @Produces(APPLICATION_NDJSON)
+  public StreamingOutput bulkDelete(
+      @PathParam("collection") String collection, InputStream uuids) {
+    DocumentResource.findHandlerChain(collections, collection, Operation.REMOVE);
+    return output -> bulkDelete(collection, uuids, new Results(output));
+  }
+
+  private void bulkDelete(String collection, InputStream uuids, Results results)
+      throws IOException {
+    List<String> batch = new ArrayList<>(BATCH_SIZE);
+    BufferedReader reader =
+        new BufferedReader(new InputStreamReader(uuids, StandardCharsets.UTF_8));
+    String line;
+    while ((line = reader.readLine()) != null) {
+      String uuid = unquote(line.trim());
+      if (uuid.isEmpty()) {
+        continue;
+      }
+      if (results.pending() == BATCH_SIZE) {
+        flushDeletes(collection, batch, results);
+      }
+      try {
+        uuidValidator.validate(uuid, "uuid");
+      } catch (WebApplicationException e) {
+        BulkItemResult failed = BulkItemResult.failed(uuid, e.getMessage());
+        logDelete(collection, failed);
+        results.add(failed);
+        continue;
+      }
+      batch.add(uuid);
+      results.reserve();
+    }
+    flushDeletes(collection, batch, results);
+  }
+
+  private void flush(String collection, List<Map<String, Object>> batch, Results results)
+      throws IOException {
+    if (batch.isEmpty()) {
+      return;
+    }
+    List<BulkItemResult> written;
+    try {
+      written = documentStoreService.writeAll(collection, batch);
+    } catch (WebApplicationException e) {
+      written = new ArrayList<>(batch.size());
+      for (Map<String, Object> content : batch) {
+        written.add(BulkItemResult.failed((String) content.get("uuid"), e.getMessage()));
+      }
+    }
+    for (int i = 0; i < written.size(); i++) {
+      log(collection, batch.get(i), written.get(i));
+    }
+    results.addAll(written);
+    batch.clear();
+  }
+
+  private void flushDeletes(String collection, List<String> batch, Results results)
+      throws IOException {
+    if (batch.isEmpty()) {
+      return;
+    }
+    List<BulkItemResult> deleted;
+    try {
+      deleted = documentStoreService.deleteAll(collection, batch);
+    } catch (WebApplicationException e) {
+      deleted = new ArrayList<>(batch.size());
+      for (String uuid : batch) {
+        deleted.add(BulkItemResult.failed(uuid, e.getMessage()));
+      }
+    }
+    for (BulkItemResult result : deleted) {
+      logDelete(collection, result);
+    }
+    results.addAll(deleted);
+    batch.clear();
+  }
+
+  /**
+   * Writes each result as a line of the response in input order. A place is reserved for each
+   * document added to the batch, and results after it are held until the batch has been flushed.
+   */
+  private final class Results {
+
+    private final OutputStream output;
+    private final List<BulkItemResult> pending = new ArrayList<>(BATCH_SIZE);
+    private final List<Integer> reserved = new ArrayList<>(BATCH_SIZE);
+
+    Results(OutputStream output) {
+      this.output = output;
+    }
+
+    void add(BulkItemResult result) throws IOException {
+      if (reserved.isEmpty()) {
+        write(result);
+      } else {
+        pending.add(result);
+      }
+    }
+
+    void reserve() {
+      reserved.add(pending.size());
+      pending.add(null);
+    }
+
+    int pending() {
+      return pending.size();
+    }
+
+    /** Fills the reserved places with the batch's results, in order, and writes all held. */
+    void addAll(List<BulkItemResult> batch) throws IOException {
+      for (int i = 0; i < batch.size(); i++) {
+        pending.set(reserved.get(i), batch.get(i));
+      }
+      for (BulkItemResult result : pending) {
+        write(result);
+      }
+      pending.clear();
+      reserved.clear();
+      output.flush();
+    }
+
+    private void write(BulkItemResult result) throws IOException {
+      resultWriter.writeValue(output, result);
+      output.write('\n');
+    }
+  }
+
+  private static String unquote(String value) {
+    if (value.length() > 1 && value.startsWith("\"") && value.endsWith("\"")) {
+      return value.substring(1, value.length() - 1);
+    }
+    return value;
+  }
+
+  // as a single DELETE logs, to which deleting a missing document is a success
+  private void logDelete(String collection, BulkItemResult result) {
+    if (result.getStatus() == BulkItemResult.Status.FAILED) {
+      LOGGER
+          .error()
+          .field("uuid", result.getUuid())
+          .field("@time", ISO_INSTANT.format(Instant.now()))
+          .field("event", "SaveDocStore")
+          .field("monitoring_event", "true")
+          .field("collection", collection)
+          .field("service_name", appName)
+          .message("Error: " + result.getMessage())
+          .log();
+    } else {
+      LOGGER
+          .info()
+          .field("uuid", result.getUuid())
+          .field("@time", ISO_INSTANT.format(Instant.now()))
+          .field("event", "SaveDocStore")
+          .field("collection", collection)
+          .field("monitoring_event", "true")
+          .field("service_name", appName)
+          .message("Successfully deleted")
+          .log();
+    }
+  }
+
+  private void log(String collection, Map<String, Object> content, BulkItemResult result) {
+    if (result.getStatus() == BulkItemResult.Status.FAILED) {
+      LOGGER
+          .error()
+          .field("uuid", result.getUuid())
+          .field("@time", ISO_INSTANT.format(Instant.now()))
+          .field("event", "SaveDocStore")
+          .field("monitoring_event", "true")
+          .field("collection", collection)
+          .field("service_name", appName)
+          .message("Error: " + result.getMessage())
+          .log();
+    } else {
+      LOGGER
+          .info()
+          .field("@time", ISO_INSTANT.format(Instant.now()))
+          .field("event", "SaveDocStore")
+          .field("collection", collection)
+          .field("monitoring_event", "true")
+          .field("service_name", appName)
+          .field("content_type", content.get("type"))
+          .field("uuid", result.getUuid())
+          .message("Successfully saved")
+          .log();
+    }
+  }
+}
@@ -0,0 +1,79 @@
+package com.ft.universalpublishing.documentstore.resources;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.ft.universalpublishing.documentstore.exception.ValidationException;
+import com.ft.universalpublishing.documentstore.handler.HandlerChain;
+import com.ft.universalpublishing.documentstore.model.read.Operation;
+import com.ft.universalpublishing.documentstore.model.read.Pair;
+import com.ft.universalpublishing.documentstore.service.ChangeFeed;
+import com.ft.universalpublishing.documentstore.service.MongoDocumentStoreService;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.ws.rs.*;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+
+@Api(tags = {"collections"})
+@Path("/")
+public class DocumentChangesResource {
+
+  // the feed holds a Jetty thread while it waits, so waits are kept short and resumed with `since`
+  static final int MAX_WAIT_SECONDS = 30;
+
+  private final Map<Pair<String, Operation>, HandlerChain> collections;
+  private final MongoDocumentStoreService documentStoreService;
+  private final ObjectWriter eventWriter;
+
+  public DocumentChangesResource(
+      Map<Pair<String, Operation>, HandlerChain> collections,
+      MongoDocumentStoreService documentStoreService,
+      ObjectMapper objectMapper) {
+    this.collections = collections;
+    this.documentStoreService = documentStoreService;
+    this.eventWriter = objectMapper.writer();
+  }
+
+  @ApiOperation(
+      value =
+          "Stream changes to documents in the specified collection as newline delimited JSON, starting after the given resume token")
+  @GET
+  @Path("/{collection}/__changes")
+  @Produces(DocumentBulkResource.APPLICATION_NDJSON)
+  public Response getChanges(
+      @PathParam("collection") String collection,
+      @QueryParam("since") String since,
+      @QueryParam("wait") @DefaultValue("30") int waitSeconds) {
+    DocumentResource.findHandlerChain(collections, collection, Operation.ADD);
+    if (waitSeconds < 0 || waitSeconds > MAX_WAIT_SECONDS) {
+      throw new ValidationException(
+          String.format(
+              "invalid wait: %d, must be between 0 and %d", waitSeconds, MAX_WAIT_SECONDS));
+    }
+
+    ChangeFeed changeFeed = documentStoreService.watchChanges(collection, since);
+    StreamingOutput streamingOutput =
+        outputStream -> {
+          try (ChangeFeed changes = changeFeed) {
+            changes.forEach(
+                TimeUnit.SECONDS.toMillis(waitSeconds),
+                event -> {
+                  try {
+                    outputStream.write(eventWriter.writeValueAsBytes(event));
+                    outputStream.write('\n');
+                    outputStream.flush();
+                  } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                  }
+                });
+          } catch (UncheckedIOException e) {
+            throw e.getCause();
+          }
+        };
+    return Response.ok().entity(streamingOutput).build();
+  }
+}
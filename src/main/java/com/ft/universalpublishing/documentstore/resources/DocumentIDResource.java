@@ -1,6 +1,11 @@
 package com.ft.universalpublishing.documentstore.resources;
 
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.ft.universalpublishing.documentstore.exception.ValidationException;
 import com.ft.universalpublishing.documentstore.service.MongoDocumentStoreService;
+import com.ft.universalpublishing.documentstore.service.UuidRange;
+import com.ft.universalpublishing.documentstore.validators.UuidValidator;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import javax.ws.rs.*;
@@ -13,9 +18,17 @@ import javax.ws.rs.core.StreamingOutput;
 public class DocumentIDResource {
 
   private final MongoDocumentStoreService documentStoreService;
+  private final Meter rows;
+  private final UuidValidator uuidValidator = new UuidValidator();
 
   public DocumentIDResource(MongoDocumentStoreService documentStoreService) {
+    this(documentStoreService, new MetricRegistry());
+  }
+
+  public DocumentIDResource(
+      MongoDocumentStoreService documentStoreService, MetricRegistry metrics) {
     this.documentStoreService = documentStoreService;
+    this.rows = metrics.meter(MetricRegistry.name(DocumentIDResource.class, "rows"));
   }
 
   @ApiOperation(
@@ -26,9 +39,41 @@ public class DocumentIDResource {
   @Produces(MediaType.APPLICATION_OCTET_STREAM)
   public final Response getIDsForCollectionAndAuthority(
       @PathParam("collection") String collection,
-      @QueryParam("includeSource") boolean includeSource) {
+      @QueryParam("includeSource") boolean includeSource,
+      @QueryParam("after") String after,
+      @QueryParam("partition") Integer partition,
+      @QueryParam("of") Integer of) {
+    UuidRange range = getRange(after, partition, of);
     StreamingOutput streamingOutput =
-        outputStream -> documentStoreService.findUUIDs(collection, includeSource, outputStream);
+        outputStream ->
+            documentStoreService.findUUIDs(collection, includeSource, range, outputStream, rows);
     return Response.ok().entity(streamingOutput).build();
   }
+
+  /**
+   * Any of the paging parameters switches to an export in uuid order. An empty {@code after} starts
+   * one from the beginning, so that it can be resumed later.
+   */
+  private UuidRange getRange(String after, Integer partition, Integer of) {
+    UuidRange range;
+    if (partition == null && of == null) {
+      range = after == null ? null : UuidRange.all();
+    } else if (partition == null || of == null) {
+      throw new ValidationException("partition and of must be given together");
+    } else {
+      try {
+        range = UuidRange.partition(partition, of);
+      } catch (IllegalArgumentException e) {
+        throw new ValidationException(
+            String.format(
+                "invalid partition: %d of %d, of must be between 1 and %d and partition less than of",
+                partition, of, UuidRange.MAX_PARTITIONS));
+      }
+    }
+    if (after != null && !after.isEmpty()) {
+      uuidValidator.validate(after, "after");
+      range = range.after(after);
+    }
+    return range;
+  }
 }
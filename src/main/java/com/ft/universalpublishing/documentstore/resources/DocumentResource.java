@@ -20,6 +20,7 @@ import java.util.Map;
 import javax.ws.rs.*;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.UriInfo;
 
 @Api(tags = {"collections"})
@@ -30,10 +31,18 @@ public class DocumentResource {
   private static final String appName = "document-store-api";
 
   private Map<Pair<String, Operation>, HandlerChain> collections;
+  private final RequestCoalescer coalescer;
   private final Logger LOGGER = LoggerFactory.getLogger(DocumentResource.class);
 
   public DocumentResource(Map<Pair<String, Operation>, HandlerChain> collections) {
+    this(collections, null);
+  }
+
+  /** @param coalescer shares one execution between identical concurrent reads, if not null */
+  public DocumentResource(
+      Map<Pair<String, Operation>, HandlerChain> collections, RequestCoalescer coalescer) {
     this.collections = collections;
+    this.coalescer = coalescer;
   }
 
   @ApiOperation(value = "Get documents from the specified collection per content type UUID")
@@ -42,12 +51,18 @@ public class DocumentResource {
   @Path("/{collection}/{uuidString}")
   @Produces(MediaType.APPLICATION_JSON + CHARSET_UTF_8)
   public final Object getFromCollectionByUuid(
-      @PathParam("uuidString") String uuidString, @PathParam("collection") String collection) {
+      @PathParam("uuidString") String uuidString,
+      @javax.ws.rs.core.Context UriInfo uriInfo,
+      @javax.ws.rs.core.Context HttpHeaders httpHeaders,
+      @javax.ws.rs.core.Context Request request,
+      @PathParam("collection") String collection) {
     Context context = new Context();
     context.setUuids(uuidString);
     context.setCollection(collection);
-    HandlerChain handlerChain = getHandlerChain(collection, Operation.GET_BY_ID);
-    return handlerChain.execute(context);
+    context.setUriInfo(uriInfo);
+    context.setHttpHeaders(httpHeaders);
+    context.setRequest(request);
+    return read(collection, Operation.GET_BY_ID, context);
   }
 
   @ApiOperation(value = "Search and filter documents from the specified list collection")
@@ -56,17 +71,23 @@ public class DocumentResource {
   @Path("search/{collection}")
   @Produces(MediaType.APPLICATION_JSON + CHARSET_UTF_8)
   public final Object searchCollection(
+      @javax.ws.rs.core.Context UriInfo uriInfo,
       @PathParam("collection") String collection,
       @QueryParam("conceptUUID") String conceptUUID,
       @QueryParam("listType") String listType,
-      @QueryParam("searchTerm") String searchTerm) {
+      @QueryParam("searchTerm") String searchTerm,
+      @QueryParam("limit") Integer limit,
+      @QueryParam("after") String after) {
     Context context = new Context();
     context.setCollection(collection);
+    // the next page link is built from the request URI, which also keys coalesced searches
+    context.setUriInfo(uriInfo);
     context.setConceptUUID(conceptUUID);
     context.setListType(listType);
     context.setSearchTerm(searchTerm);
-    HandlerChain handlerChain = getHandlerChain(collection, Operation.SEARCH);
-    return handlerChain.execute(context);
+    context.setLimit(limit);
+    context.setAfter(after);
+    return read(collection, Operation.SEARCH, context);
   }
 
   @GET
@@ -81,8 +102,7 @@ public class DocumentResource {
     context.setUriInfo(uriInfo);
     context.setHttpHeaders(httpHeaders);
     context.setCollection(collection);
-    HandlerChain handlerChain = getHandlerChain(collection, Operation.GET_FILTERED);
-    return handlerChain.execute(context);
+    return read(collection, Operation.GET_FILTERED, context);
   }
 
   @ApiOperation(
@@ -116,8 +136,7 @@ public class DocumentResource {
     context.setHttpHeaders(httpHeaders);
     context.setCollection(collection);
     context.setUuids(uuidList);
-    HandlerChain handlerChain = getHandlerChain(collection, Operation.GET_MULTIPLE_FILTERED);
-    return handlerChain.execute(context);
+    return read(collection, Operation.GET_MULTIPLE_FILTERED, context);
   }
 
   @ApiOperation(value = "Add/update a document identified by UUID")
@@ -213,7 +232,23 @@ public class DocumentResource {
     }
   }
 
+  private Object read(String collection, Operation operation, Context context) {
+    HandlerChain handlerChain = getHandlerChain(collection, operation);
+    if (coalescer == null) {
+      return handlerChain.execute(context);
+    }
+    return coalescer.execute(
+        RequestCoalescer.Key.of(operation, context), () -> handlerChain.execute(context));
+  }
+
   protected HandlerChain getHandlerChain(String collection, Operation Operation) {
+    return findHandlerChain(collections, collection, Operation);
+  }
+
+  static HandlerChain findHandlerChain(
+      Map<Pair<String, Operation>, HandlerChain> collections,
+      String collection,
+      Operation Operation) {
     Pair<String, Operation> pair = new Pair<>(collection, Operation);
     if (collections.containsKey(pair)) {
       return collections.get(pair);
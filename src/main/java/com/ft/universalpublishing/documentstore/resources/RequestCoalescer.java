@@ -0,0 +1,159 @@
+package com.ft.universalpublishing.documentstore.resources;
+
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.ft.universalpublishing.documentstore.model.read.Context;
+import com.ft.universalpublishing.documentstore.model.read.Operation;
+import com.ft.universalpublishing.documentstore.target.RawDocumentOutput;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import lombok.Value;
+
+/**
+ * Lets identical reads that are in flight at the same time share one execution of their handler
+ * chain, so a burst of requests for the same document reaches Mongo and the public APIs once.
+ *
+ * <p>A read joins an execution only while it is running, and waits for it on its own thread; once
+ * it completes, the next identical read starts a new one. Every caller gets its own copy of a
+ * {@link Response}, since Jersey writes to the response it is given. Results that cannot be copied
+ * are not shared: a read that joined one whose result streams from Mongo as it is written, or
+ * which failed with an exception holding a single {@link Response}, runs its own execution once
+ * the first completes. A single document read by uuid is written from a {@link
+ * RawDocumentOutput}, so it is still shared.
+ */
+public class RequestCoalescer {
+
+  private final ConcurrentMap<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+  private final Meter coalesced;
+
+  public RequestCoalescer(MetricRegistry metrics) {
+    this.coalesced = metrics.meter(MetricRegistry.name(RequestCoalescer.class, "coalesced"));
+  }
+
+  /**
+   * Runs {@code execution}, or waits for the one already running for the same key.
+   *
+   * @throws RuntimeException as thrown by {@code execution}, whether it ran on this caller's
+   *     thread or on the one this caller joined
+   */
+  public Object execute(Key key, Supplier<Object> execution) {
+    CompletableFuture<Object> started = new CompletableFuture<>();
+    CompletableFuture<Object> running = inFlight.putIfAbsent(key, started);
+    if (running != null) {
+      return join(running, execution);
+    }
+
+    Object result;
+    try {
+      result = execution.get();
+    } catch (RuntimeException | Error e) {
+      inFlight.remove(key, started);
+      started.completeExceptionally(e);
+      throw e;
+    }
+    // removed first, so nobody joins an execution that has already finished
+    inFlight.remove(key, started);
+    started.complete(result);
+    return copyResult(result);
+  }
+
+  int inFlight() {
+    return inFlight.size();
+  }
+
+  private Object join(CompletableFuture<Object> running, Supplier<Object> execution) {
+    Object result;
+    try {
+      result = running.join();
+    } catch (CompletionException e) {
+      Throwable cause = e.getCause();
+      if (!isShareable(cause)) {
+        return execution.get();
+      }
+      coalesced.mark();
+      throw propagate(cause);
+    }
+    if (isStreamed(result)) {
+      return execution.get();
+    }
+    coalesced.mark();
+    return copyResult(result);
+  }
+
+  // a StreamingOutput may read from Mongo as it writes, so it can only be written once
+  private static boolean isStreamed(Object result) {
+    Object entity = result instanceof Response ? ((Response) result).getEntity() : result;
+    return entity instanceof StreamingOutput && !(entity instanceof RawDocumentOutput);
+  }
+
+  // exceptions that build a new response each time can be rethrown to every caller as they are
+  private static boolean isShareable(Throwable error) {
+    if (!(error instanceof WebApplicationException)) {
+      return true;
+    }
+    WebApplicationException exception = (WebApplicationException) error;
+    return exception.getResponse() != exception.getResponse();
+  }
+
+  private static Object copyResult(Object result) {
+    return result instanceof Response ? Response.fromResponse((Response) result).build() : result;
+  }
+
+  private static RuntimeException propagate(Throwable error) {
+    if (error instanceof Error) {
+      throw (Error) error;
+    }
+    return (RuntimeException) error;
+  }
+
+  /**
+   * Identifies a read by everything its handler chain looks at: the collection, the operation,
+   * the path uuids, the query parameters in a normalised order, and the conditional headers.
+   */
+  @Value
+  public static class Key {
+    String collection;
+    Operation operation;
+    List<String> uuids;
+    String conceptUUID;
+    String listType;
+    String searchTerm;
+    Map<String, List<String>> queryParameters;
+    List<String> conditions;
+
+    public static Key of(Operation operation, Context context) {
+      Map<String, List<String>> queryParameters = new TreeMap<>();
+      if (context.getUriInfo() != null) {
+        MultivaluedMap<String, String> parameters = context.getUriInfo().getQueryParameters();
+        parameters.forEach((name, values) -> queryParameters.put(name, new ArrayList<>(values)));
+      }
+      List<String> conditions = new ArrayList<>(2);
+      HttpHeaders httpHeaders = context.getHttpHeaders();
+      if (httpHeaders != null) {
+        conditions.add(httpHeaders.getHeaderString(HttpHeaders.IF_NONE_MATCH));
+        conditions.add(httpHeaders.getHeaderString(HttpHeaders.IF_MODIFIED_SINCE));
+      }
+      return new Key(
+          context.getCollection(),
+          operation,
+          new ArrayList<>(context.getUuids()),
+          context.getConceptUUID(),
+          context.getListType(),
+          context.getSearchTerm(),
+          queryParameters,
+          conditions);
+    }
+  }
+}
@@ -0,0 +1,79 @@
+package com.ft.universalpublishing.documentstore.service;
+
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.ft.universalpublishing.documentstore.BatchingConfig;
+import com.ft.universalpublishing.documentstore.model.read.Concept;
+import com.ft.universalpublishing.documentstore.service.cache.ConceptCache;
+import com.google.common.base.Throwables;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Resolves single concepts that are not cached through batched searches, so the lookups of
+ * concurrent list reads reach the Public Concepts API as one request rather than one each.
+ */
+public class BatchingPublicConceptsApiService implements PublicConceptsApiService {
+
+  private final PublicConceptsApiService delegate;
+  private final ConceptCache conceptCache;
+  private final MicroBatcher<String, Concept> batcher;
+
+  public BatchingPublicConceptsApiService(
+      PublicConceptsApiService delegate,
+      ConceptCache conceptCache,
+      BatchingConfig config,
+      ScheduledExecutorService scheduler,
+      Executor executor,
+      MetricRegistry metrics) {
+    this.delegate = delegate;
+    this.conceptCache = conceptCache;
+    this.batcher =
+        new MicroBatcher<>(
+            "public-concepts-api", config, this::search, scheduler, executor, metrics);
+  }
+
+  @Override
+  public Concept getUpToDateConcept(String conceptUUID)
+      throws JsonMappingException, JsonProcessingException {
+    if (conceptUUID == null || conceptUUID.isEmpty()) {
+      return null;
+    }
+
+    // cached concepts are answered straight away rather than after the batching delay
+    Concept cached = conceptCache.get(conceptUUID);
+    if (cached != null || conceptCache.isMissing(conceptUUID)) {
+      return cached;
+    }
+
+    try {
+      Concept concept = batcher.get(conceptUUID).join();
+      // every caller waiting on the same concept gets it, and callers change what they get
+      return concept == null ? null : concept.copy();
+    } catch (CompletionException e) {
+      Throwables.throwIfInstanceOf(e.getCause(), JsonProcessingException.class);
+      Throwables.throwIfUnchecked(e.getCause());
+      throw e;
+    }
+  }
+
+  @Override
+  public List<Concept> searchConcepts(String[] conceptUUIDs)
+      throws JsonMappingException, JsonProcessingException {
+    return delegate.searchConcepts(conceptUUIDs);
+  }
+
+  private Map<String, Concept> search(Set<String> conceptUUIDs) throws JsonProcessingException {
+    Map<String, Concept> concepts = new HashMap<>();
+    for (Concept concept : delegate.searchConcepts(conceptUUIDs.toArray(new String[0]))) {
+      concepts.put(concept.getOriginalUUID(), concept);
+    }
+    return concepts;
+  }
+}
@@ -0,0 +1,141 @@
+package com.ft.universalpublishing.documentstore.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Date;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonValueCodec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DocumentCodec;
+import org.bson.codecs.configuration.CodecRegistry;
+
+/**
+ * Writes a raw BSON document as JSON without decoding it into a {@link Document} first.
+ *
+ * <p>The output matches what Jackson produces for the decoded document: strings, numbers, booleans,
+ * nulls, documents and arrays are copied straight from the BSON reader, while dates and the rarer
+ * BSON types are decoded as {@link DocumentCodec} would and written by the given mapper. The stored
+ * {@link DocumentVersion#ETAG_FIELD} is left out.
+ */
+public class BsonJsonTranscoder {
+
+  private static final String VALUE = "value";
+
+  private final ObjectMapper objectMapper;
+  private final ObjectWriter valueWriter;
+  private final DocumentCodec documentCodec;
+  private final BsonValueCodec bsonValueCodec = new BsonValueCodec();
+  private final DecoderContext decoderContext = DecoderContext.builder().build();
+
+  public BsonJsonTranscoder(ObjectMapper objectMapper, CodecRegistry codecRegistry) {
+    this.objectMapper = objectMapper;
+    this.valueWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    this.documentCodec = new DocumentCodec(codecRegistry);
+  }
+
+  public void write(RawBsonDocument document, OutputStream outputStream) throws IOException {
+    try (JsonGenerator generator = createGenerator(outputStream)) {
+      write(document, generator);
+    }
+  }
+
+  /** Creates a generator for writing several documents, which leaves the stream open on close. */
+  public JsonGenerator createGenerator(OutputStream outputStream) throws IOException {
+    JsonGenerator generator =
+        objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8);
+    // the caller owns the stream
+    generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    return generator;
+  }
+
+  public void write(RawBsonDocument document, JsonGenerator generator) throws IOException {
+    BsonBinaryReader reader = new BsonBinaryReader(document.getByteBuffer().asNIO());
+    try {
+      writeDocument(reader, generator, true);
+    } finally {
+      reader.close();
+    }
+  }
+
+  private void writeDocument(BsonReader reader, JsonGenerator generator, boolean root)
+      throws IOException {
+    reader.readStartDocument();
+    generator.writeStartObject();
+    while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+      String name = reader.readName();
+      if (root && name.equals(DocumentVersion.ETAG_FIELD)) {
+        reader.skipValue();
+        continue;
+      }
+      generator.writeFieldName(name);
+      writeValue(reader, generator);
+    }
+    reader.readEndDocument();
+    generator.writeEndObject();
+  }
+
+  private void writeArray(BsonReader reader, JsonGenerator generator) throws IOException {
+    reader.readStartArray();
+    generator.writeStartArray();
+    while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+      writeValue(reader, generator);
+    }
+    reader.readEndArray();
+    generator.writeEndArray();
+  }
+
+  private void writeValue(BsonReader reader, JsonGenerator generator) throws IOException {
+    switch (reader.getCurrentBsonType()) {
+      case DOCUMENT:
+        writeDocument(reader, generator, false);
+        break;
+      case ARRAY:
+        writeArray(reader, generator);
+        break;
+      case STRING:
+        generator.writeString(reader.readString());
+        break;
+      case INT32:
+        generator.writeNumber(reader.readInt32());
+        break;
+      case INT64:
+        generator.writeNumber(reader.readInt64());
+        break;
+      case DOUBLE:
+        generator.writeNumber(reader.readDouble());
+        break;
+      case BOOLEAN:
+        generator.writeBoolean(reader.readBoolean());
+        break;
+      case NULL:
+        reader.readNull();
+        generator.writeNull();
+        break;
+      case DATE_TIME:
+        valueWriter.writeValue(generator, new Date(reader.readDateTime()));
+        break;
+      default:
+        valueWriter.writeValue(generator, decode(reader));
+    }
+  }
+
+  private Object decode(BsonReader reader) {
+    BsonValue value = bsonValueCodec.decode(reader, decoderContext);
+    Document decoded =
+        documentCodec.decode(
+            new BsonDocumentReader(new BsonDocument(VALUE, value)), decoderContext);
+    return decoded.get(VALUE);
+  }
+}
@@ -0,0 +1,175 @@
+package com.ft.universalpublishing.documentstore.service;
+
+import com.ft.universalpublishing.documentstore.exception.ValidationException;
+import com.ft.universalpublishing.documentstore.write.ChangeEvent;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonDocument;
+import org.bson.BsonTimestamp;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.DecoderContext;
+
+/** An open change stream on one collection. Changes are only available on a replica set. */
+public class ChangeFeed implements Closeable {
+
+  static final long CHECKPOINT_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(10);
+  static final long DELETION_WAIT_MILLIS = TimeUnit.SECONDS.toMillis(2);
+  private static final long DELETION_POLL_MILLIS = 50;
+
+  private final MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor;
+  private final MongoCollection<Document> deletions;
+
+  ChangeFeed(
+      MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor,
+      MongoCollection<Document> deletions) {
+    this.cursor = cursor;
+    this.deletions = deletions;
+  }
+
+  /**
+   * Passes each change to {@code events} until {@code waitMillis} have passed or the collection is
+   * dropped, then a checkpoint to resume from. Checkpoints are also sent during quiet periods.
+   */
+  public void forEach(long waitMillis, Consumer<ChangeEvent> events) {
+    long now = System.currentTimeMillis();
+    long deadline = now + waitMillis;
+    long lastSent = now;
+    while (now < deadline) {
+      ChangeStreamDocument<Document> change = cursor.tryNext();
+      now = System.currentTimeMillis();
+      if (change != null) {
+        ChangeEvent event = toEvent(change);
+        if (event == null) {
+          break;
+        }
+        events.accept(event);
+        lastSent = now;
+      } else if (now - lastSent >= CHECKPOINT_INTERVAL_MILLIS) {
+        sendCheckpoint(events);
+        lastSent = now;
+      }
+    }
+    sendCheckpoint(events);
+  }
+
+  @Override
+  public void close() {
+    cursor.close();
+  }
+
+  private void sendCheckpoint(Consumer<ChangeEvent> events) {
+    BsonDocument resumeToken = cursor.getResumeToken();
+    if (resumeToken != null) {
+      events.accept(ChangeEvent.checkpoint(encodeToken(resumeToken)));
+    }
+  }
+
+  /** @return {@code null} once the stream can deliver nothing more for the collection */
+  private ChangeEvent toEvent(ChangeStreamDocument<Document> change) {
+    ChangeEvent.Type type;
+    switch (change.getOperationType()) {
+      case INSERT:
+        type = ChangeEvent.Type.CREATED;
+        break;
+      case REPLACE:
+      case UPDATE:
+        type = ChangeEvent.Type.UPDATED;
+        break;
+      case DELETE:
+        type = ChangeEvent.Type.DELETED;
+        break;
+      default:
+        return null;
+    }
+    Document document = change.getFullDocument();
+    String uuid = document == null ? null : document.getString("uuid");
+    if (type == ChangeEvent.Type.DELETED) {
+      uuid = deletedUuid(change.getDocumentKey(), change.getClusterTime());
+    }
+    return new ChangeEvent(
+        type,
+        uuid,
+        toId(change.getDocumentKey()),
+        toInstant(change.getClusterTime()),
+        encodeToken(change.getResumeToken()));
+  }
+
+  // recorded by the service just after it deletes, so missing for deletes made elsewhere and
+  // possibly not written yet for a recent one, which is waited for briefly
+  private String deletedUuid(BsonDocument documentKey, BsonTimestamp clusterTime) {
+    BsonValue id = documentKey == null ? null : documentKey.get("_id");
+    if (id == null) {
+      return null;
+    }
+    long deadline =
+        clusterTime == null
+            ? 0
+            : TimeUnit.SECONDS.toMillis(clusterTime.getTime() + 1) + DELETION_WAIT_MILLIS;
+    while (true) {
+      Document deletion =
+          deletions.find(Filters.eq("_id", id)).projection(Projections.include("uuid")).first();
+      if (deletion != null) {
+        return deletion.getString("uuid");
+      }
+      if (System.currentTimeMillis() >= deadline) {
+        return null;
+      }
+      try {
+        Thread.sleep(DELETION_POLL_MILLIS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return null;
+      }
+    }
+  }
+
+  private static String toId(BsonDocument documentKey) {
+    BsonValue id = documentKey == null ? null : documentKey.get("_id");
+    if (id == null) {
+      return null;
+    }
+    if (id.isObjectId()) {
+      return id.asObjectId().getValue().toHexString();
+    }
+    return id.isString() ? id.asString().getValue() : id.toString();
+  }
+
+  private static String toInstant(BsonTimestamp clusterTime) {
+    return clusterTime == null ? null : Instant.ofEpochSecond(clusterTime.getTime()).toString();
+  }
+
+  static String encodeToken(BsonDocument resumeToken) {
+    RawBsonDocument raw = new RawBsonDocument(resumeToken, new BsonDocumentCodec());
+    ByteBuffer bytes = raw.getByteBuffer().asNIO();
+    byte[] token = new byte[bytes.remaining()];
+    bytes.get(token);
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(token);
+  }
+
+  static BsonDocument decodeToken(String token) {
+    try {
+      ByteBuffer bytes = ByteBuffer.wrap(Base64.getUrlDecoder().decode(token));
+      BsonBinaryReader reader = new BsonBinaryReader(bytes);
+      try {
+        return new BsonDocumentCodec().decode(reader, DecoderContext.builder().build());
+      } finally {
+        reader.close();
+      }
+    } catch (RuntimeException e) {
+      throw new ValidationException("invalid since: " + token + ", not a change feed resume token");
+    }
+  }
+}
@@ -0,0 +1,56 @@
+package com.ft.universalpublishing.documentstore.service;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Date;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+
+/**
+ * The validators of a stored document: the hash of its content taken when it was written, and its
+ * {@code lastModified} field, if it has one.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+@RequiredArgsConstructor
+public class DocumentVersion {
+
+  /** The stored field holding the content hash. It is never returned to readers. */
+  public static final String ETAG_FIELD = "_etag";
+
+  static final String LAST_MODIFIED_FIELD = "lastModified";
+
+  /** {@code null} for documents read without their stored hash. */
+  private final String etag;
+
+  private final Date lastModified;
+
+  public static DocumentVersion of(BsonDocument document) {
+    BsonValue etag = document.get(ETAG_FIELD);
+    return new DocumentVersion(
+        etag != null && etag.isString() ? etag.asString().getValue() : null,
+        lastModified(document.get(LAST_MODIFIED_FIELD)));
+  }
+
+  private static Date lastModified(BsonValue value) {
+    if (value == null) {
+      return null;
+    }
+    if (value.isDateTime()) {
+      return new Date(value.asDateTime().getValue());
+    }
+    if (value.isString()) {
+      try {
+        return Date.from(Instant.parse(value.asString().getValue()));
+      } catch (DateTimeParseException e) {
+        return null;
+      }
+    }
+    return null;
+  }
+}
@@ -0,0 +1,93 @@
+package com.ft.universalpublishing.documentstore.service;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import org.bson.Document;
+
+/**
+ * Writes {@code __ids} rows in the same text form as {@link Document#toJson()}, without going
+ * through the general-purpose BSON encoder. Rows that hold anything other than plain ASCII strings,
+ * nested documents and lists of them are handed to {@code toJson} unchanged.
+ */
+final class IdRowWriter {
+
+  private IdRowWriter() {}
+
+  static void write(Document row, Writer writer) throws IOException {
+    if (isSimple(row)) {
+      writeValue(row, writer);
+    } else {
+      writer.write(row.toJson());
+    }
+    writer.write('\n');
+  }
+
+  private static boolean isSimple(Object value) {
+    if (value instanceof String) {
+      return isPlain((String) value);
+    }
+    if (value instanceof Document) {
+      for (Map.Entry<String, Object> entry : ((Document) value).entrySet()) {
+        if (!isPlain(entry.getKey()) || !isSimple(entry.getValue())) {
+          return false;
+        }
+      }
+      return true;
+    }
+    if (value instanceof List) {
+      for (Object element : (List<?>) value) {
+        if (!(element instanceof Document) || !isSimple(element)) {
+          return false;
+        }
+      }
+      return true;
+    }
+    return false;
+  }
+
+  /** Printable ASCII that the JSON writer emits verbatim, i.e. with no escaping. */
+  private static boolean isPlain(String value) {
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c < 0x20 || c > 0x7e || c == '"' || c == '\\') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static void writeValue(Object value, Writer writer) throws IOException {
+    if (value instanceof String) {
+      writer.write('"');
+      writer.write((String) value);
+      writer.write('"');
+    } else if (value instanceof Document) {
+      writer.write('{');
+      Iterator<Map.Entry<String, Object>> entries = ((Document) value).entrySet().iterator();
+      while (entries.hasNext()) {
+        Map.Entry<String, Object> entry = entries.next();
+        writer.write(" \"");
+        writer.write(entry.getKey());
+        writer.write("\" : ");
+        writeValue(entry.getValue(), writer);
+        if (entries.hasNext()) {
+          writer.write(',');
+        }
+      }
+      writer.write(" }");
+    } else {
+      writer.write('[');
+      Iterator<?> elements = ((List<?>) value).iterator();
+      while (elements.hasNext()) {
+        writeValue(elements.next(), writer);
+        if (elements.hasNext()) {
+          writer.write(", ");
+        }
+      }
+      writer.write(']');
+    }
+  }
+}
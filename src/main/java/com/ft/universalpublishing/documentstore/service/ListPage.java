@@ -0,0 +1,15 @@
+package com.ft.universalpublishing.documentstore.service;
+
+import java.util.List;
+import lombok.Value;
+import org.bson.Document;
+
+/** One page of a list search, in the order lists were first stored. */
+@Value
+public class ListPage {
+
+  List<Document> documents;
+
+  /** The {@code after} token for the next page, or {@code null} on the last one. */
+  String next;
+}
@@ -0,0 +1,110 @@
+package com.ft.universalpublishing.documentstore.service;
+
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
+import com.ft.universalpublishing.documentstore.BatchingConfig;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects the keys asked for by concurrent callers and loads them together, once the first key
+ * has waited {@link BatchingConfig#getMaxDelay()} or the batch has {@link
+ * BatchingConfig#getMaxBatchSize()} keys, whichever comes first.
+ *
+ * <p>A batch that fills up is loaded on the thread that filled it; one that times out is loaded on
+ * {@code executor}. Callers asking for a key that is already waiting share its result.
+ */
+public class MicroBatcher<K, V> {
+
+  @FunctionalInterface
+  public interface BatchLoader<K, V> {
+    /** @return the values found, keyed by the keys asked for; keys without a value are omitted */
+    Map<K, V> load(Set<K> keys) throws Exception;
+  }
+
+  private final BatchLoader<K, V> loader;
+  private final int maxBatchSize;
+  private final long maxDelayMillis;
+  private final ScheduledExecutorService scheduler;
+  private final Executor executor;
+  private final Histogram batchSizes;
+
+  // guarded by this
+  private Map<K, CompletableFuture<V>> pending = new LinkedHashMap<>();
+  private ScheduledFuture<?> scheduledLoad;
+
+  public MicroBatcher(
+      String name,
+      BatchingConfig config,
+      BatchLoader<K, V> loader,
+      ScheduledExecutorService scheduler,
+      Executor executor,
+      MetricRegistry metrics) {
+    this.loader = loader;
+    this.maxBatchSize = config.getMaxBatchSize();
+    this.maxDelayMillis = config.getMaxDelay().toMilliseconds();
+    this.scheduler = scheduler;
+    this.executor = executor;
+    this.batchSizes =
+        metrics.histogram(MetricRegistry.name(MicroBatcher.class, name, "batch-size"));
+  }
+
+  public CompletableFuture<V> get(K key) {
+    CompletableFuture<V> result;
+    Map<K, CompletableFuture<V>> full = null;
+    synchronized (this) {
+      result = pending.get(key);
+      if (result == null) {
+        result = new CompletableFuture<>();
+        pending.put(key, result);
+        if (pending.size() >= maxBatchSize) {
+          full = takePending();
+        } else if (pending.size() == 1) {
+          scheduledLoad =
+              scheduler.schedule(
+                  () -> executor.execute(this::loadPending), maxDelayMillis, TimeUnit.MILLISECONDS);
+        }
+      }
+    }
+    if (full != null) {
+      load(full);
+    }
+    return result;
+  }
+
+  private void loadPending() {
+    Map<K, CompletableFuture<V>> batch;
+    synchronized (this) {
+      batch = takePending();
+    }
+    if (!batch.isEmpty()) {
+      load(batch);
+    }
+  }
+
+  private Map<K, CompletableFuture<V>> takePending() {
+    if (scheduledLoad != null) {
+      scheduledLoad.cancel(false);
+      scheduledLoad = null;
+    }
+    Map<K, CompletableFuture<V>> batch = pending;
+    pending = new LinkedHashMap<>();
+    return batch;
+  }
+
+  private void load(Map<K, CompletableFuture<V>> batch) {
+    batchSizes.update(batch.size());
+    try {
+      Map<K, V> values = loader.load(batch.keySet());
+      batch.forEach((key, result) -> result.complete(values.get(key)));
+    } catch (Exception e) {
+      batch.values().forEach(result -> result.completeExceptionally(e));
+    }
+  }
+}
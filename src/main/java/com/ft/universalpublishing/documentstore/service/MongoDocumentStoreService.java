@@ -1,61 +1,124 @@
 package com.ft.universalpublishing.documentstore.service;
 
+import com.codahale.metrics.Meter;
+import com.ft.api.jaxrs.errors.ClientError;
 import com.ft.universalpublishing.documentstore.exception.DocumentNotFoundException;
 import com.ft.universalpublishing.documentstore.exception.ExternalSystemInternalServerException;
 import com.ft.universalpublishing.documentstore.exception.ExternalSystemUnavailableException;
 import com.ft.universalpublishing.documentstore.exception.IDStreamingException;
 import com.ft.universalpublishing.documentstore.exception.QueryResultNotUniqueException;
+import com.ft.universalpublishing.documentstore.exception.ValidationException;
+import com.ft.universalpublishing.documentstore.service.cache.DocumentCache;
+import com.ft.universalpublishing.documentstore.write.BulkItemResult;
 import com.ft.universalpublishing.documentstore.write.DocumentWritten;
+import com.google.common.hash.Hashing;
 import com.mongodb.BasicDBObject;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoCommandException;
 import com.mongodb.MongoException;
 import com.mongodb.MongoSocketException;
 import com.mongodb.MongoTimeoutException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
+import com.mongodb.client.ChangeStreamIterable;
 import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.BulkWriteOptions;
 import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.FindOneAndDeleteOptions;
 import com.mongodb.client.model.IndexOptions;
 import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.client.model.UpdateOneModel;
 import com.mongodb.client.model.UpdateOptions;
-import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.client.model.changestream.FullDocument;
 import com.mongodb.client.result.UpdateResult;
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
 import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.DocumentCodec;
+import org.bson.codecs.EncoderContext;
 import org.bson.conversions.Bson;
+import org.bson.io.BasicOutputBuffer;
+import org.bson.types.ObjectId;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class MongoDocumentStoreService {
 
+  public static final int MAX_LIST_PAGE_SIZE = 500;
+  public static final int DEFAULT_LIST_PAGE_SIZE = MAX_LIST_PAGE_SIZE;
+
   private static final String LISTS_COLLECTION = "lists";
+  // the collections served by list searches, whose titles are tokenized
+  private static final List<String> LIST_COLLECTIONS =
+      Collections.unmodifiableList(Arrays.asList(LISTS_COLLECTION, "generic-lists"));
+  private static final String DELETIONS_COLLECTION = "deletions";
+  private static final long DELETION_RETENTION_DAYS = 7;
   private static final Logger LOG = LoggerFactory.getLogger(MongoDocumentStoreService.class);
+  private static final int ID_EXPORT_BATCH_SIZE = 5_000;
+  private static final int ID_EXPORT_BUFFER_SIZE = 64 * 1024;
+  private static final int TITLE_TOKENS_BATCH_SIZE = 1_000;
+  private static final int INDEX_NOT_FOUND = 27;
+  private static final int CHANGE_STREAM_FATAL_ERROR = 280;
+  private static final int CHANGE_STREAM_HISTORY_LOST = 286;
   private static final String IDENT_AUTHORITY = "identifiers.authority";
   private static final String IDENT_VALUE = "identifiers.identifierValue";
   private static final String CONCEPT_UUID = "concept.uuid";
   private static final String LIST_TYPE = "listType";
 
   private final MongoDatabase db;
+  private final DocumentCache documentCache;
+  private final DocumentCodec documentCodec;
   private ExecutorService exec;
   private boolean indexed;
+  private final Set<String> tokenizedCollections = ConcurrentHashMap.newKeySet();
   private Runnable reindexer = this::applyIndexes;
 
   public MongoDocumentStoreService(final MongoDatabase db, ExecutorService exec) {
+    this(db, exec, DocumentCache.disabled());
+  }
+
+  public MongoDocumentStoreService(
+      final MongoDatabase db, ExecutorService exec, DocumentCache documentCache) {
     this.db = db;
     this.exec = exec;
+    this.documentCache = documentCache;
+    this.documentCodec = new DocumentCodec(db.getCodecRegistry());
     exec.submit(reindexer);
   }
 
@@ -84,10 +147,31 @@ public class MongoDocumentStoreService {
     return indexed;
   }
 
+  /** @return the first page of matching lists, of {@link #DEFAULT_LIST_PAGE_SIZE} at most */
   public List<Document> filterLists(
       String resourceType, UUID[] conceptUUIDs, String listType, String searchTerm) {
+    return filterLists(resourceType, conceptUUIDs, listType, searchTerm, null, null).getDocuments();
+  }
+
+  /**
+   * @param limit the page size, or {@code null} for {@link #DEFAULT_LIST_PAGE_SIZE}. Larger sizes
+   *     than {@link #MAX_LIST_PAGE_SIZE} are cut down to it.
+   * @param after the {@link ListPage#getNext() next} token of the previous page, or {@code null}
+   *     for the first page
+   */
+  public ListPage filterLists(
+      String resourceType,
+      UUID[] conceptUUIDs,
+      String listType,
+      String searchTerm,
+      Integer limit,
+      String after) {
 
+    int pageSize = pageSize(limit);
     List<Bson> queryFilters = new ArrayList<>();
+    if (after != null) {
+      queryFilters.add(Filters.gt("_id", decodeListCursor(after)));
+    }
     UUID[] resolvedConceptUUIDs = Optional.ofNullable(conceptUUIDs).orElse(new UUID[] {});
     String[] conceptUUIDStrings =
         Arrays.asList(resolvedConceptUUIDs).stream()
@@ -103,31 +187,36 @@ public class MongoDocumentStoreService {
       queryFilters.add(filterByListType);
     }
     if (searchTerm != null) {
-      Pattern regexSearchTerm = Pattern.compile(searchTerm, Pattern.CASE_INSENSITIVE);
-      Bson filterByTitle = Filters.eq("title", regexSearchTerm);
-      queryFilters.add(filterByTitle);
+      List<String> searchTokens = TitleTokens.of(searchTerm);
+      if (searchTokens.isEmpty()) {
+        // no title has a word to match
+        return new ListPage(new ArrayList<>(), null);
+      }
+      queryFilters.add(filterByTitle(resourceType, searchTerm, searchTokens));
     }
 
-    Bson filter = Filters.and(queryFilters);
-
     try {
       MongoCollection<Document> dbCollection = db.getCollection(resourceType);
-      Iterable<Document> results;
-      if (conceptUUIDStrings.length == 0 && listType == null && searchTerm == null) {
-        results = dbCollection.find();
-      } else {
-        results = dbCollection.find(filter);
-      }
+      FindIterable<Document> results =
+          queryFilters.isEmpty()
+              ? dbCollection.find()
+              : dbCollection.find(Filters.and(queryFilters));
+
+      // one more than the page shows whether there is a next page
+      List<Document> documents = new ArrayList<>(pageSize + 1);
+      results.sort(Sorts.ascending("_id")).limit(pageSize + 1).into(documents);
 
-      ArrayList<Document> documents = new ArrayList<>();
-      results.forEach(
+      String next = null;
+      if (documents.size() > pageSize) {
+        documents.remove(pageSize);
+        next = encodeListCursor(documents.get(pageSize - 1).getObjectId("_id"));
+      }
+      documents.forEach(
           doc -> {
-            if (doc != null) {
-              doc.remove("_id");
-              documents.add(doc);
-            }
+            doc.remove("_id");
+            removeStoredOnlyFields(doc);
           });
-      return documents;
+      return new ListPage(documents, next);
 
     } catch (MongoSocketException | MongoTimeoutException e) {
       LOG.error(
@@ -141,16 +230,70 @@ public class MongoDocumentStoreService {
     }
   }
 
+  private static int pageSize(Integer limit) {
+    if (limit == null) {
+      return DEFAULT_LIST_PAGE_SIZE;
+    }
+    if (limit < 1) {
+      throw new ValidationException("invalid limit: " + limit + ", must be at least 1");
+    }
+    return Math.min(limit, MAX_LIST_PAGE_SIZE);
+  }
+
+  static String encodeListCursor(ObjectId id) {
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(id.toByteArray());
+  }
+
+  static ObjectId decodeListCursor(String after) {
+    try {
+      return new ObjectId(Base64.getUrlDecoder().decode(after));
+    } catch (RuntimeException e) {
+      throw new ValidationException("invalid after: " + after + ", not a list search page token");
+    }
+  }
+
   public Map<String, Object> findByUuid(String resourceType, UUID uuid) {
+    return decode(findRawByUuid(resourceType, uuid));
+  }
+
+  /** Finds a document without decoding it, for callers that stream it on as is. */
+  public RawBsonDocument findRawByUuid(String resourceType, UUID uuid) {
+    return findRawByUuid(resourceType, uuid, null);
+  }
+
+  /**
+   * @param fields top-level fields to return, with {@code uuid} always among them, or {@code null}
+   *     for the whole document. Projected documents are read with a Mongo projection and are not
+   *     cached; a cached whole document is trimmed instead.
+   * @return the document with its stored {@link DocumentVersion#ETAG_FIELD}, which is added to
+   *     documents written before it was stored
+   */
+  public RawBsonDocument findRawByUuid(String resourceType, UUID uuid, Set<String> fields) {
     try {
-      MongoCollection<Document> dbCollection = db.getCollection(resourceType);
-      Document foundDocument =
-          dbCollection.find().filter(Filters.eq("uuid", uuid.toString())).first();
+      String uuidString = uuid.toString();
+      RawBsonDocument foundDocument = documentCache.get(resourceType, uuidString);
+      if (foundDocument != null) {
+        return fields == null ? foundDocument : project(foundDocument, fields);
+      }
+
+      long generation = documentCache.generation(resourceType, uuidString);
+      foundDocument =
+          getRawCollection(resourceType)
+              .find()
+              .filter(Filters.eq("uuid", uuidString))
+              .projection(getProjection(fields))
+              .first();
       if (foundDocument == null) {
         throw new DocumentNotFoundException(uuid);
       }
+      if (fields == null) {
+        foundDocument = withStoredEtag(resourceType, foundDocument);
+        documentCache.put(resourceType, uuidString, foundDocument, generation);
+      } else if (!foundDocument.containsKey(DocumentVersion.ETAG_FIELD)) {
+        // the hash is taken over the whole document, which the projection left out
+        return project(findRawByUuid(resourceType, uuid, null), fields);
+      }
 
-      foundDocument.remove("_id");
       return foundDocument;
     } catch (MongoSocketException | MongoTimeoutException e) {
       LOG.error(
@@ -165,32 +308,109 @@ public class MongoDocumentStoreService {
     }
   }
 
-  public List<Document> findByUuids(String resourceType, Set<UUID> uuids) {
+  /**
+   * Finds only the validators of a document, so that a conditional read of an unchanged document
+   * does not have to fetch it in full.
+   */
+  public DocumentVersion findVersionByUuid(String resourceType, UUID uuid) {
     try {
-      MongoCollection<Document> dbCollection = db.getCollection(resourceType);
+      String uuidString = uuid.toString();
+      RawBsonDocument foundDocument = documentCache.get(resourceType, uuidString);
+      if (foundDocument != null) {
+        return DocumentVersion.of(foundDocument);
+      }
 
-      Iterable<Document> results =
-          dbCollection
+      foundDocument =
+          getRawCollection(resourceType)
               .find()
-              .filter(
-                  Filters.in(
-                      "uuid", uuids.stream().map(UUID::toString).collect(Collectors.toList())));
+              .filter(Filters.eq("uuid", uuidString))
+              .projection(
+                  Projections.fields(
+                      Projections.include(
+                          DocumentVersion.ETAG_FIELD, DocumentVersion.LAST_MODIFIED_FIELD),
+                      Projections.excludeId()))
+              .first();
+      if (foundDocument == null) {
+        throw new DocumentNotFoundException(uuid);
+      }
+      if (!foundDocument.containsKey(DocumentVersion.ETAG_FIELD)) {
+        return DocumentVersion.of(findRawByUuid(resourceType, uuid));
+      }
+      return DocumentVersion.of(foundDocument);
+    } catch (MongoSocketException | MongoTimeoutException e) {
+      LOG.error(
+          "MongoDB connection timed out or caused a socket exception during find, please check MongoDB! Collection {}, uuid {}",
+          resourceType,
+          uuid,
+          e);
+      throw new ExternalSystemUnavailableException("cannot communicate with mongo", e);
+    } catch (MongoException e) {
+      LOG.error("Failed to find document in Mongo! Collection {}, uuid {}", resourceType, uuid, e);
+      throw new ExternalSystemInternalServerException(e);
+    }
+  }
+
+  public List<Document> findByUuids(String resourceType, Set<UUID> uuids) {
+    List<String> uuidStrings = uuids.stream().map(UUID::toString).collect(Collectors.toList());
+    Map<String, RawBsonDocument> found = findRawByUuids(resourceType, uuidStrings);
+
+    // preserve the order of the queried UUIDs in the found documents
+    List<Document> documents = new ArrayList<>(found.size());
+    uuidStrings.forEach(
+        uuid -> {
+          RawBsonDocument raw = found.get(uuid);
+          if (raw != null) {
+            documents.add(decode(raw));
+          }
+        });
 
-      Map<UUID, Document> mappedResults = new HashMap<>();
-      results.forEach(doc -> mappedResults.put(UUID.fromString((String) doc.get("uuid")), doc));
+    return documents;
+  }
+
+  /**
+   * Finds documents without decoding them, keyed by UUID. UUIDs that are not found are absent from
+   * the result, which is in no particular order.
+   */
+  public Map<String, RawBsonDocument> findRawByUuids(
+      String resourceType, Collection<String> uuids) {
+    return findRawByUuids(resourceType, uuids, null);
+  }
 
-      // preserve the order of the queried UUIDs in the found documents
-      List<Document> documents = new LinkedList<>();
+  /** @param fields as for {@link #findRawByUuid(String, UUID, Set)} */
+  public Map<String, RawBsonDocument> findRawByUuids(
+      String resourceType, Collection<String> uuids, Set<String> fields) {
+    try {
+      Map<String, RawBsonDocument> found = new HashMap<>();
+      Map<String, Long> uncachedGenerations = new HashMap<>();
       uuids.forEach(
           uuid -> {
-            Document doc = mappedResults.get(uuid);
-            if (doc != null) {
-              doc.remove("_id");
-              documents.add(doc);
+            RawBsonDocument cached = documentCache.get(resourceType, uuid);
+            if (cached != null) {
+              found.put(uuid, fields == null ? cached : project(cached, fields));
+            } else {
+              uncachedGenerations.put(uuid, documentCache.generation(resourceType, uuid));
             }
           });
+      List<String> uncachedUuids = new ArrayList<>(uncachedGenerations.keySet());
+
+      if (!uncachedUuids.isEmpty()) {
+        Iterable<RawBsonDocument> results =
+            getRawCollection(resourceType)
+                .find()
+                .filter(Filters.in("uuid", uncachedUuids))
+                .projection(getProjection(fields));
+        results.forEach(
+            raw -> {
+              String uuid = raw.getString("uuid").getValue();
+              // cached documents carry their hash, so that reads by uuid are tagged from it
+              if (fields == null && raw.containsKey(DocumentVersion.ETAG_FIELD)) {
+                documentCache.put(resourceType, uuid, raw, uncachedGenerations.get(uuid));
+              }
+              found.put(uuid, raw);
+            });
+      }
 
-      return documents;
+      return found;
     } catch (MongoSocketException | MongoTimeoutException e) {
       LOG.error(
           "MongoDB connection timed out or caused a socket exception during delete, please check MongoDB! Collection {}, uuids {}",
@@ -220,6 +440,7 @@ public class MongoDocumentStoreService {
         if (found == null) {
           found = doc;
           found.remove("_id");
+          removeStoredOnlyFields(found);
         } else {
           LOG.warn(
               "found too many results for collection {} identifier {}:{}: at least {} and {}",
@@ -260,6 +481,9 @@ public class MongoDocumentStoreService {
       // modified list
       found =
           dbCollection.find(filter).sort(new BasicDBObject("publishedDate", -1)).limit(1).first();
+      if (found != null) {
+        removeStoredOnlyFields(found);
+      }
 
       return found;
     } catch (MongoException e) {
@@ -275,12 +499,17 @@ public class MongoDocumentStoreService {
 
   public void delete(String resourceType, UUID uuid) {
     try {
-      MongoCollection<Document> dbCollection = db.getCollection(resourceType);
-      DeleteResult deleteResult = dbCollection.deleteOne(Filters.eq("uuid", uuid.toString()));
+      Document deleted =
+          db.getCollection(resourceType)
+              .findOneAndDelete(
+                  Filters.eq("uuid", uuid.toString()),
+                  new FindOneAndDeleteOptions().projection(Projections.include("_id")));
+      documentCache.invalidate(resourceType, uuid.toString());
 
-      if (deleteResult.getDeletedCount() == 0) {
+      if (deleted == null) {
         throw new DocumentNotFoundException(uuid);
       }
+      recordDeletions(resourceType, Collections.singletonMap(deleted.get("_id"), uuid.toString()));
 
     } catch (MongoSocketException | MongoTimeoutException e) {
       LOG.error(
@@ -296,6 +525,101 @@ public class MongoDocumentStoreService {
     }
   }
 
+  /**
+   * Deletes the given documents with a single {@code deleteMany}, reporting the uuids that were not
+   * in the collection. Results are returned in the order of {@code uuids}.
+   *
+   * <p>Only the documents found just before are deleted, so a document inserted in between is left
+   * alone and reported as not found. If the delete removes fewer documents than were found, some
+   * were deleted concurrently by another request; Mongo does not say which, so the found uuids are
+   * reported as deleted with a message saying so.
+   */
+  public List<BulkItemResult> deleteAll(String resourceType, List<String> uuids) {
+    if (uuids.isEmpty()) {
+      return Collections.emptyList();
+    }
+    try {
+      MongoCollection<Document> dbCollection = db.getCollection(resourceType);
+      Map<Object, String> existing = new HashMap<>();
+      for (Document document :
+          dbCollection.find(Filters.in("uuid", uuids)).projection(Projections.include("uuid"))) {
+        existing.put(document.get("_id"), document.getString("uuid"));
+      }
+      long deleted = 0;
+      if (!existing.isEmpty()) {
+        deleted = dbCollection.deleteMany(Filters.in("_id", existing.keySet())).getDeletedCount();
+      }
+      uuids.forEach(uuid -> documentCache.invalidate(resourceType, uuid));
+      if (deleted > 0) {
+        recordDeletions(resourceType, existing);
+      }
+
+      String concurrentlyDeleted = null;
+      if (deleted < existing.size()) {
+        concurrentlyDeleted =
+            String.format(
+                "deleted, but only %d of the %d found in its batch by this request",
+                deleted, existing.size());
+        LOG.warn("Bulk delete in collection {}: {}", resourceType, concurrentlyDeleted);
+      }
+      Set<String> existingUuids = new HashSet<>(existing.values());
+      List<BulkItemResult> results = new ArrayList<>(uuids.size());
+      for (String uuid : uuids) {
+        results.add(
+            existingUuids.contains(uuid)
+                ? new BulkItemResult(uuid, BulkItemResult.Status.DELETED, concurrentlyDeleted)
+                : BulkItemResult.notFound(uuid));
+      }
+      return results;
+    } catch (MongoSocketException | MongoTimeoutException e) {
+      LOG.error(
+          "MongoDB connection timed out or caused a socket exception during bulk delete, please check MongoDB! Collection {}, documents {}",
+          resourceType,
+          uuids.size(),
+          e);
+      throw new ExternalSystemUnavailableException("cannot communicate with mongo", e);
+    } catch (MongoException e) {
+      LOG.error(
+          "Failed to bulk delete documents from Mongo! Collection {}, documents {}",
+          resourceType,
+          uuids.size(),
+          e);
+      throw new ExternalSystemInternalServerException(e);
+    }
+  }
+
+  /**
+   * Remembers the uuids of deleted documents under their Mongo ids, as a delete on a change stream
+   * reports only the id. Entries expire after {@link #DELETION_RETENTION_DAYS}.
+   *
+   * <p>This runs after the delete, so a failure here never records a deletion that did not happen;
+   * it is logged rather than failing the request, and the change feed then reports only the id.
+   */
+  private void recordDeletions(String resourceType, Map<Object, String> uuidsById) {
+    Date deletedAt = new Date();
+    List<WriteModel<Document>> deletions = new ArrayList<>(uuidsById.size());
+    uuidsById.forEach(
+        (id, uuid) ->
+            deletions.add(
+                new ReplaceOneModel<>(
+                    Filters.eq("_id", id),
+                    new Document("_id", id)
+                        .append("collection", resourceType)
+                        .append("uuid", uuid)
+                        .append("deletedAt", deletedAt),
+                    new UpdateOptions().upsert(true))));
+    try {
+      db.getCollection(DELETIONS_COLLECTION)
+          .bulkWrite(deletions, new BulkWriteOptions().ordered(false));
+    } catch (MongoException e) {
+      LOG.warn(
+          "Failed to record deletions in Mongo! Collection {}, documents {}",
+          resourceType,
+          uuidsById.size(),
+          e);
+    }
+  }
+
   public DocumentWritten write(String resourceType, Map<String, Object> content) {
     try {
       MongoCollection<Document> dbCollection = db.getCollection(resourceType);
@@ -303,7 +627,10 @@ public class MongoDocumentStoreService {
       Document document = new Document(content);
       UpdateResult updateResult =
           dbCollection.replaceOne(
-              Filters.eq("uuid", uuid), document, new UpdateOptions().upsert(true));
+              Filters.eq("uuid", uuid),
+              withEtag(withTitleTokens(resourceType, document)),
+              new UpdateOptions().upsert(true));
+      documentCache.invalidate(resourceType, uuid);
       if (updateResult.getUpsertedId() == null) {
         return DocumentWritten.updated(document);
       }
@@ -325,20 +652,296 @@ public class MongoDocumentStoreService {
     }
   }
 
+  /**
+   * Upserts the given documents with one unordered bulk write, so a document the server rejects
+   * does not stop the rest of the batch. Results are returned in the order of {@code contents}.
+   */
+  public List<BulkItemResult> writeAll(String resourceType, List<Map<String, Object>> contents) {
+    if (contents.isEmpty()) {
+      return Collections.emptyList();
+    }
+    List<WriteModel<Document>> requests = new ArrayList<>(contents.size());
+    for (Map<String, Object> content : contents) {
+      requests.add(
+          new ReplaceOneModel<>(
+              Filters.eq("uuid", content.get("uuid")),
+              withEtag(withTitleTokens(resourceType, new Document(content))),
+              new UpdateOptions().upsert(true)));
+    }
+
+    BulkWriteResult writeResult;
+    Map<Integer, String> errors = new HashMap<>();
+    try {
+      writeResult =
+          db.getCollection(resourceType).bulkWrite(requests, new BulkWriteOptions().ordered(false));
+    } catch (MongoBulkWriteException e) {
+      writeResult = e.getWriteResult();
+      for (BulkWriteError error : e.getWriteErrors()) {
+        errors.put(error.getIndex(), error.getMessage());
+      }
+    } catch (MongoSocketException | MongoTimeoutException e) {
+      LOG.error(
+          "MongoDB connection timed out or caused a socket exception during bulk write, please check MongoDB! Collection {}, documents {}",
+          resourceType,
+          contents.size(),
+          e);
+      throw new ExternalSystemUnavailableException("cannot communicate with mongo", e);
+    } catch (MongoException e) {
+      LOG.error(
+          "Failed to bulk write documents to Mongo! Collection {}, documents {}",
+          resourceType,
+          contents.size(),
+          e);
+      throw new ExternalSystemInternalServerException(e);
+    } finally {
+      contents.forEach(
+          content -> documentCache.invalidate(resourceType, (String) content.get("uuid")));
+    }
+
+    Set<Integer> upserted =
+        writeResult.getUpserts().stream()
+            .map(BulkWriteUpsert::getIndex)
+            .collect(Collectors.toSet());
+    List<BulkItemResult> results = new ArrayList<>(contents.size());
+    for (int i = 0; i < contents.size(); i++) {
+      String uuid = (String) contents.get(i).get("uuid");
+      if (errors.containsKey(i)) {
+        results.add(BulkItemResult.failed(uuid, errors.get(i)));
+      } else if (upserted.contains(i)) {
+        results.add(BulkItemResult.created(uuid));
+      } else {
+        results.add(BulkItemResult.updated(uuid));
+      }
+    }
+    return results;
+  }
+
+  /**
+   * Opens a change stream on the collection, starting after the change that {@code since} was
+   * issued for, or from now if it is {@code null}.
+   */
+  public ChangeFeed watchChanges(String resourceType, String since) {
+    List<Bson> pipeline =
+        Collections.singletonList(
+            Aggregates.project(
+                Projections.include(
+                    "operationType", "documentKey", "clusterTime", "fullDocument.uuid")));
+    ChangeStreamIterable<Document> changes =
+        db.getCollection(resourceType)
+            .watch(pipeline)
+            .fullDocument(FullDocument.UPDATE_LOOKUP)
+            .maxAwaitTime(1, TimeUnit.SECONDS);
+    if (since != null) {
+      changes = changes.resumeAfter(ChangeFeed.decodeToken(since));
+    }
+
+    try {
+      return new ChangeFeed(changes.cursor(), db.getCollection(DELETIONS_COLLECTION));
+    } catch (MongoCommandException e) {
+      if (e.getErrorCode() == CHANGE_STREAM_HISTORY_LOST
+          || e.getErrorCode() == CHANGE_STREAM_FATAL_ERROR) {
+        throw ClientError.status(410)
+            .error("Changes since the given token are no longer available")
+            .exception(e);
+      }
+      LOG.error("Failed to open change stream in Mongo! Collection {}", resourceType, e);
+      throw new ExternalSystemInternalServerException(e);
+    } catch (MongoSocketException | MongoTimeoutException e) {
+      LOG.error(
+          "MongoDB connection timed out or caused a socket exception opening a change stream, please check MongoDB! Collection {}",
+          resourceType,
+          e);
+      throw new ExternalSystemUnavailableException("cannot communicate with mongo", e);
+    } catch (MongoException e) {
+      LOG.error("Failed to open change stream in Mongo! Collection {}", resourceType, e);
+      throw new ExternalSystemInternalServerException(e);
+    }
+  }
+
+  /**
+   * Copies the document with the hash of its BSON encoding added, which readers use as its ETag.
+   * The given document is left as it is.
+   */
+  private Document withEtag(Document document) {
+    Document stored = new Document(document);
+    stored.remove(DocumentVersion.ETAG_FIELD);
+    stored.put(DocumentVersion.ETAG_FIELD, etag(stored));
+    return stored;
+  }
+
+  /**
+   * Stores the hash of a document written before hashes were, as a write would have, so that every
+   * read of it is tagged the same. A write that stored a hash in the meantime is left alone.
+   */
+  private RawBsonDocument withStoredEtag(String resourceType, RawBsonDocument document) {
+    if (document.containsKey(DocumentVersion.ETAG_FIELD)) {
+      return document;
+    }
+    Document stored = document.decode(documentCodec);
+    String etag = etag(stored);
+    db.getCollection(resourceType)
+        .updateOne(
+            Filters.and(
+                Filters.eq("uuid", stored.get("uuid")),
+                Filters.exists(DocumentVersion.ETAG_FIELD, false)),
+            Updates.set(DocumentVersion.ETAG_FIELD, etag));
+    stored.put(DocumentVersion.ETAG_FIELD, etag);
+    return new RawBsonDocument(stored, documentCodec);
+  }
+
+  private String etag(Document document) {
+    BasicOutputBuffer buffer = new BasicOutputBuffer();
+    documentCodec.encode(new BsonBinaryWriter(buffer), document, EncoderContext.builder().build());
+    return Hashing.murmur3_128()
+        .hashBytes(buffer.getInternalBuffer(), 0, buffer.getPosition())
+        .toString();
+  }
+
+  private static Bson getProjection(Set<String> fields) {
+    if (fields == null) {
+      return Projections.excludeId();
+    }
+    List<String> included = new ArrayList<>(fields);
+    if (!fields.contains("uuid")) {
+      included.add("uuid");
+    }
+    // kept for the response's ETag, but never written out
+    included.add(DocumentVersion.ETAG_FIELD);
+    return Projections.fields(Projections.include(included), Projections.excludeId());
+  }
+
+  private static RawBsonDocument project(RawBsonDocument document, Set<String> fields) {
+    BsonDocument projected = new BsonDocument();
+    for (Map.Entry<String, BsonValue> field : document.entrySet()) {
+      if (fields.contains(field.getKey())
+          || field.getKey().equals("uuid")
+          || field.getKey().equals(DocumentVersion.ETAG_FIELD)) {
+        projected.put(field.getKey(), field.getValue());
+      }
+    }
+    return new RawBsonDocument(projected, new BsonDocumentCodec());
+  }
+
+  private MongoCollection<RawBsonDocument> getRawCollection(String resourceType) {
+    return db.getCollection(resourceType, RawBsonDocument.class);
+  }
+
+  /** Decodes a document found by uuid, leaving out the fields that are only stored. */
+  public Document decode(RawBsonDocument document) {
+    Document decoded = document.decode(documentCodec);
+    removeStoredOnlyFields(decoded);
+    return decoded;
+  }
+
+  private static void removeStoredOnlyFields(Document document) {
+    document.remove(DocumentVersion.ETAG_FIELD);
+    document.remove(TitleTokens.FIELD);
+  }
+
+  /**
+   * Matches titles with a word starting with each word searched for, using the index on the title
+   * tokens. Until {@link #addMissingTitleTokens(String)} has run for the collection, lists stored
+   * before their titles were tokenized are also matched on the title itself, with the search term
+   * taken literally.
+   */
+  private Bson filterByTitle(String resourceType, String searchTerm, List<String> searchTokens) {
+    List<Bson> prefixes =
+        searchTokens.stream()
+            .map(token -> Filters.regex(TitleTokens.FIELD, "^" + token))
+            .collect(Collectors.toList());
+    if (tokenizedCollections.contains(resourceType)) {
+      return Filters.and(prefixes);
+    }
+    return Filters.or(
+        Filters.and(prefixes),
+        Filters.and(
+            Filters.exists(TitleTokens.FIELD, false),
+            Filters.regex("title", Pattern.quote(searchTerm), "i")));
+  }
+
+  private static Document withTitleTokens(String resourceType, Document document) {
+    if (!LIST_COLLECTIONS.contains(resourceType)) {
+      return document;
+    }
+    Document stored = new Document(document);
+    Object title = document.get("title");
+    stored.put(TitleTokens.FIELD, TitleTokens.of(title instanceof String ? (String) title : null));
+    return stored;
+  }
+
   public void applyIndexes() {
     applyIndexForCollection("content");
     applyIndexForCollection("internalcomponents");
-    applyIndexForListCollection();
+    LIST_COLLECTIONS.forEach(this::applyIndexForListCollection);
+    applyIndexForDeletions();
     indexed = true;
+    LIST_COLLECTIONS.forEach(collection -> exec.submit(() -> addMissingTitleTokens(collection)));
+  }
+
+  private void applyIndexForDeletions() {
+    db.getCollection(DELETIONS_COLLECTION)
+        .createIndex(
+            new Document("deletedAt", 1),
+            new IndexOptions()
+                .background(true)
+                .expireAfter(DELETION_RETENTION_DAYS, TimeUnit.DAYS));
   }
 
   @SuppressWarnings("rawtypes")
-  private void applyIndexForListCollection() {
-    MongoCollection lists = db.getCollection(LISTS_COLLECTION);
-    LOG.info("Creating UUID index on collection [{}]", LISTS_COLLECTION);
+  private void applyIndexForListCollection(String collection) {
+    MongoCollection lists = db.getCollection(collection);
+    LOG.info("Creating UUID index on collection [{}]", collection);
     createUuidIndex(lists);
-    LOG.info("Created UUID index on collection [{}]", LISTS_COLLECTION);
+    LOG.info("Created UUID index on collection [{}]", collection);
     createConceptAndListTypeIndex(lists);
+    lists.createIndex(new Document(TitleTokens.FIELD, 1), new IndexOptions().background(true));
+  }
+
+  /**
+   * Tokenizes the titles of lists written before titles were tokenized, in unordered batches, after
+   * which title searches no longer fall back to scanning titles. Run in the background once indexes
+   * are applied.
+   */
+  void addMissingTitleTokens(String collection) {
+    try {
+      MongoCollection<Document> lists = db.getCollection(collection);
+      FindIterable<Document> untokenized =
+          lists
+              .find(Filters.exists(TitleTokens.FIELD, false))
+              .projection(Projections.include("title"));
+      List<WriteModel<Document>> batch = new ArrayList<>(TITLE_TOKENS_BATCH_SIZE);
+      long updated = 0;
+      for (Document list : untokenized) {
+        Object title = list.get("title");
+        batch.add(
+            new UpdateOneModel<>(
+                // a list written since it was read already has tokens for its new title
+                Filters.and(
+                    Filters.eq("_id", list.get("_id")), Filters.exists(TitleTokens.FIELD, false)),
+                Updates.set(
+                    TitleTokens.FIELD,
+                    TitleTokens.of(title instanceof String ? (String) title : null))));
+        if (batch.size() == TITLE_TOKENS_BATCH_SIZE) {
+          updated += addTitleTokens(lists, batch);
+        }
+      }
+      if (!batch.isEmpty()) {
+        updated += addTitleTokens(lists, batch);
+      }
+      tokenizedCollections.add(collection);
+      if (updated > 0) {
+        LOG.info("Added title tokens to {} lists in collection [{}]", updated, collection);
+      }
+    } catch (MongoException e) {
+      LOG.warn("Failed to add title tokens to lists in collection [{}]", collection, e);
+    }
+  }
+
+  private static int addTitleTokens(
+      MongoCollection<Document> lists, List<WriteModel<Document>> batch) {
+    int updated = lists.bulkWrite(batch, new BulkWriteOptions().ordered(false)).getModifiedCount();
+    batch.clear();
+    return updated;
   }
 
   @SuppressWarnings("rawtypes")
@@ -362,26 +965,82 @@ public class MongoDocumentStoreService {
     collection.createIndex(queryByIdentifierIndex);
   }
 
+  // paged list searches go through their matches in _id order, so each index ends with it
   private void createConceptAndListTypeIndex(MongoCollection<?> collection) {
     Document queryByIdentifierIndex = new Document();
     queryByIdentifierIndex.put(CONCEPT_UUID, 1);
     queryByIdentifierIndex.put(LIST_TYPE, 1);
+    queryByIdentifierIndex.put("_id", 1);
     collection.createIndex(queryByIdentifierIndex, new IndexOptions().background(true));
+    collection.createIndex(
+        new Document(CONCEPT_UUID, 1).append("_id", 1), new IndexOptions().background(true));
+    collection.createIndex(
+        new Document(LIST_TYPE, 1).append("_id", 1), new IndexOptions().background(true));
+    dropIndex(collection, new Document(CONCEPT_UUID, 1).append(LIST_TYPE, 1));
+  }
+
+  // superseded indexes are dropped once their replacements exist
+  private static void dropIndex(MongoCollection<?> collection, Document keys) {
+    try {
+      collection.dropIndex(keys);
+      LOG.info("Dropped index {} on collection [{}]", keys.toJson(), collection.getNamespace());
+    } catch (MongoCommandException e) {
+      if (e.getErrorCode() != INDEX_NOT_FOUND) {
+        throw e;
+      }
+    }
   }
 
   public void findUUIDs(String resourceType, boolean includeSource, OutputStream outputStream) {
+    findUUIDs(resourceType, includeSource, outputStream, new Meter());
+  }
+
+  /**
+   * Streams one JSON row per document, reading the cursor in large batches and marking {@code rows}
+   * as it goes. The stream is flushed but left open.
+   */
+  public void findUUIDs(
+      String resourceType, boolean includeSource, OutputStream outputStream, Meter rows) {
+    findUUIDs(resourceType, includeSource, null, outputStream, rows);
+  }
+
+  /**
+   * As {@link #findUUIDs(String, boolean, OutputStream, Meter)}, limited to the given range and in
+   * uuid order, which the unique uuid index serves without an in-memory sort. A {@code null} range
+   * exports the whole collection in natural order.
+   */
+  public void findUUIDs(
+      String resourceType,
+      boolean includeSource,
+      UuidRange range,
+      OutputStream outputStream,
+      Meter rows) {
     MongoCollection<Document> collection = db.getCollection(resourceType);
-    MongoCursor<Document> cursor = getFindUUIDsQuery(collection, includeSource).iterator();
+    FindIterable<Document> query = getFindUUIDsQuery(collection, includeSource);
+    if (range != null) {
+      query = query.filter(range.toFilter()).sort(Sorts.ascending("uuid"));
+    }
+    MongoCursor<Document> cursor = query.batchSize(ID_EXPORT_BATCH_SIZE).iterator();
+    Writer writer =
+        new BufferedWriter(
+            new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), ID_EXPORT_BUFFER_SIZE);
 
     try {
+      int unmarked = 0;
       while (cursor.hasNext()) {
-        Document document = cursor.next();
-        outputStream.write((document.toJson() + "\n").getBytes());
+        IdRowWriter.write(cursor.next(), writer);
+        if (++unmarked == ID_EXPORT_BATCH_SIZE) {
+          rows.mark(unmarked);
+          unmarked = 0;
+        }
       }
-      outputStream.flush();
+      rows.mark(unmarked);
+      writer.flush();
     } catch (IOException e) {
       LOG.error("Error occurred while trying to return ids");
       throw new IDStreamingException(resourceType);
+    } finally {
+      cursor.close();
     }
   }
 
@@ -7,7 +7,8 @@ import java.util.List;
 
 public interface PublicConceptsApiService {
   // the concept might be concorded with another one and if so, will be returned
-  // by the public-content-api service
+  // by the public-content-api service; throws ExternalSystemUnavailableException when the API is
+  // not being called, so callers can keep the concept they have
   public Concept getUpToDateConcept(String conceptUUID)
       throws JsonMappingException, JsonProcessingException;
 
@@ -3,27 +3,69 @@ package com.ft.universalpublishing.documentstore.service;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.ft.universalpublishing.documentstore.clients.ApiCallGuard;
 import com.ft.universalpublishing.documentstore.clients.PublicConceptsApiClient;
+import com.ft.universalpublishing.documentstore.clients.RequestHedger;
 import com.ft.universalpublishing.documentstore.health.HealthcheckService;
 import com.ft.universalpublishing.documentstore.model.read.Concept;
+import com.ft.universalpublishing.documentstore.service.cache.ConceptCache;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import javax.servlet.http.HttpServletResponse;
 import javax.ws.rs.core.Response;
 import lombok.AccessLevel;
-import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 
-@RequiredArgsConstructor
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public class PublicConceptsApiServiceImpl implements PublicConceptsApiService, HealthcheckService {
   PublicConceptsApiClient publicConceptsApiClient;
+  ApiCallGuard apiCallGuard;
+  RequestHedger requestHedger;
+  ConceptCache conceptCache;
+  ObjectReader conceptReader;
+  ObjectReader conceptsReader;
+
+  public PublicConceptsApiServiceImpl(
+      PublicConceptsApiClient publicConceptsApiClient,
+      ConceptCache conceptCache,
+      ObjectMapper objectMapper) {
+    this(
+        publicConceptsApiClient,
+        ApiCallGuard.ofDefaults("public-concepts-api"),
+        RequestHedger.disabled(),
+        conceptCache,
+        objectMapper);
+  }
+
+  public PublicConceptsApiServiceImpl(
+      PublicConceptsApiClient publicConceptsApiClient,
+      ApiCallGuard apiCallGuard,
+      RequestHedger requestHedger,
+      ConceptCache conceptCache,
+      ObjectMapper objectMapper) {
+    this.publicConceptsApiClient = publicConceptsApiClient;
+    this.apiCallGuard = apiCallGuard;
+    this.requestHedger = requestHedger;
+    this.conceptCache = conceptCache;
+    this.conceptReader = objectMapper.readerFor(Concept.class);
+    this.conceptsReader = objectMapper.readerFor(Concept[].class);
+  }
 
   @Override
   public boolean isHealthcheckOK() {
-    final Response response = publicConceptsApiClient.getHealthcheck();
-    return response.getStatus() == Response.Status.OK.getStatusCode() ? true : false;
+    try (Response response = publicConceptsApiClient.getHealthcheck()) {
+      return response.getStatus() == Response.Status.OK.getStatusCode();
+    }
+  }
+
+  @Override
+  public Optional<CircuitBreaker.State> getCircuitBreakerState() {
+    return Optional.of(apiCallGuard.getState());
   }
 
   @Override
@@ -33,12 +75,25 @@ public class PublicConceptsApiServiceImpl implements PublicConceptsApiService, H
       return null;
     }
 
-    Response response = publicConceptsApiClient.getConcept(conceptUUID);
-    Concept upToDateConcept = null;
+    Concept upToDateConcept = conceptCache.get(conceptUUID);
+    if (upToDateConcept != null || conceptCache.isMissing(conceptUUID)) {
+      return upToDateConcept;
+    }
 
-    if (response.getStatus() == HttpServletResponse.SC_OK) {
-      final String payload = response.readEntity(String.class);
-      upToDateConcept = new ObjectMapper().reader().forType(Concept.class).readValue(payload);
+    // closed whatever the status, so the connection always goes back to the pool; a hedged call
+    // takes one bulkhead permit and counts once towards the circuit breaker
+    try (Response response =
+        apiCallGuard.call(
+            () -> requestHedger.call(() -> publicConceptsApiClient.getConcept(conceptUUID)))) {
+      if (response.getStatus() == HttpServletResponse.SC_OK) {
+        final String payload = response.readEntity(String.class);
+        upToDateConcept = conceptReader.readValue(payload);
+        if (upToDateConcept != null) {
+          conceptCache.put(conceptUUID, upToDateConcept);
+        }
+      } else if (response.getStatus() == HttpServletResponse.SC_NOT_FOUND) {
+        conceptCache.putMissing(conceptUUID);
+      }
     }
 
     return upToDateConcept;
@@ -53,11 +108,39 @@ public class PublicConceptsApiServiceImpl implements PublicConceptsApiService, H
       return concepts;
     }
 
-    Response response = publicConceptsApiClient.searchConcepts(conceptUUIDs);
+    List<String> uncachedUUIDs = new ArrayList<>();
+    for (String conceptUUID : conceptUUIDs) {
+      Concept cached = conceptCache.get(conceptUUID);
+      if (cached != null) {
+        // concepts cached from single lookups may not carry the UUID they were requested by
+        cached.setOriginalUUID(conceptUUID);
+        concepts.add(cached);
+      } else if (!conceptCache.isMissing(conceptUUID)) {
+        uncachedUUIDs.add(conceptUUID);
+      }
+    }
+
+    if (uncachedUUIDs.isEmpty()) {
+      return concepts;
+    }
 
-    if (response.getStatus() == HttpServletResponse.SC_OK) {
-      final String payload = response.readEntity(String.class);
-      concepts = Arrays.asList(new ObjectMapper().readValue(payload, Concept[].class));
+    String[] uuidsToSearch = uncachedUUIDs.toArray(new String[0]);
+    try (Response response =
+        apiCallGuard.call(() -> publicConceptsApiClient.searchConcepts(uuidsToSearch))) {
+      if (response.getStatus() == HttpServletResponse.SC_OK) {
+        final String payload = response.readEntity(String.class);
+        Set<String> notFound = new HashSet<>(uncachedUUIDs);
+        for (Concept concept : conceptsReader.<Concept[]>readValue(payload)) {
+          if (concept.getOriginalUUID() != null) {
+            conceptCache.put(concept.getOriginalUUID(), concept);
+            notFound.remove(concept.getOriginalUUID());
+          }
+          concepts.add(concept);
+        }
+        notFound.forEach(conceptCache::putMissing);
+      } else if (response.getStatus() == HttpServletResponse.SC_NOT_FOUND) {
+        uncachedUUIDs.forEach(conceptCache::putMissing);
+      }
     }
 
     return concepts;
@@ -7,6 +7,7 @@ import java.util.List;
 
 public interface PublicConcordancesApiService {
 
+  // throws ExternalSystemUnavailableException when the API is not being called
   List<Concordance> getUPPConcordances(String conceptUUID)
       throws JsonMappingException, JsonProcessingException;
 }
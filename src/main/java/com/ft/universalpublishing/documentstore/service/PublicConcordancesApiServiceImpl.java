@@ -1,58 +1,157 @@
 package com.ft.universalpublishing.documentstore.service;
 
+import com.codahale.metrics.MetricRegistry;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.ft.universalpublishing.documentstore.RefreshingCacheConfig;
+import com.ft.universalpublishing.documentstore.clients.ApiCallGuard;
 import com.ft.universalpublishing.documentstore.clients.PublicConcordancesApiClient;
 import com.ft.universalpublishing.documentstore.health.HealthcheckService;
 import com.ft.universalpublishing.documentstore.model.read.Concordance;
 import com.ft.universalpublishing.documentstore.model.read.Concordances;
+import com.ft.universalpublishing.documentstore.service.cache.CacheMetrics;
+import com.google.common.base.Throwables;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import javax.ws.rs.core.Response;
 import lombok.AccessLevel;
-import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 
-@RequiredArgsConstructor
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public class PublicConcordancesApiServiceImpl
     implements PublicConcordancesApiService, HealthcheckService {
   PublicConcordancesApiClient publicConcordancesApiClient;
+  ApiCallGuard apiCallGuard;
+  ObjectReader concordancesReader;
+  LoadingCache<String, List<Concordance>> concordanceCache;
+
+  public PublicConcordancesApiServiceImpl(
+      PublicConcordancesApiClient publicConcordancesApiClient,
+      ObjectMapper objectMapper,
+      RefreshingCacheConfig cacheConfig,
+      Executor refreshExecutor,
+      MetricRegistry metrics) {
+    this(
+        publicConcordancesApiClient,
+        ApiCallGuard.ofDefaults("public-concordances-api"),
+        objectMapper,
+        cacheConfig,
+        refreshExecutor,
+        metrics);
+  }
+
+  public PublicConcordancesApiServiceImpl(
+      PublicConcordancesApiClient publicConcordancesApiClient,
+      ApiCallGuard apiCallGuard,
+      ObjectMapper objectMapper,
+      RefreshingCacheConfig cacheConfig,
+      Executor refreshExecutor,
+      MetricRegistry metrics) {
+    this.publicConcordancesApiClient = publicConcordancesApiClient;
+    this.apiCallGuard = apiCallGuard;
+    this.concordancesReader = objectMapper.readerFor(Concordances.class);
+    this.concordanceCache =
+        CacheBuilder.newBuilder()
+            .maximumSize(cacheConfig.getMaximumSize())
+            .expireAfterWrite(
+                cacheConfig.getExpireAfterWrite().toMilliseconds(), TimeUnit.MILLISECONDS)
+            .refreshAfterWrite(
+                cacheConfig.getRefreshAfterWrite().toMilliseconds(), TimeUnit.MILLISECONDS)
+            .recordStats()
+            .build(
+                CacheLoader.asyncReloading(
+                    new CacheLoader<String, List<Concordance>>() {
+                      @Override
+                      public List<Concordance> load(String conceptUUID)
+                          throws JsonProcessingException {
+                        return loadUPPConcordances(conceptUUID);
+                      }
+                    },
+                    refreshExecutor));
+    CacheMetrics.register(
+        metrics, MetricRegistry.name(PublicConcordancesApiServiceImpl.class, "cache"),
+        concordanceCache);
+  }
 
   @Override
   public boolean isHealthcheckOK() {
-    final Response response = publicConcordancesApiClient.getHealthcheck();
-    return response.getStatus() == Response.Status.OK.getStatusCode() ? true : false;
+    try (Response response = publicConcordancesApiClient.getHealthcheck()) {
+      return response.getStatus() == Response.Status.OK.getStatusCode();
+    }
+  }
+
+  @Override
+  public Optional<CircuitBreaker.State> getCircuitBreakerState() {
+    return Optional.of(apiCallGuard.getState());
   }
 
   @Override
   public List<Concordance> getUPPConcordances(String conceptUUID)
       throws JsonMappingException, JsonProcessingException {
-    List<Concordance> filteredConcordances = new ArrayList<>();
-
     if (conceptUUID == null || conceptUUID.isEmpty()) {
-      return filteredConcordances;
+      return new ArrayList<>();
     }
 
-    Response response = publicConcordancesApiClient.getConcordances(conceptUUID);
+    try {
+      // once a value is cached, refreshes happen in the background and never block the caller
+      return new ArrayList<>(concordanceCache.get(conceptUUID));
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof UncacheableResponseException) {
+        return new ArrayList<>();
+      }
+      Throwables.throwIfInstanceOf(cause, JsonProcessingException.class);
+      Throwables.throwIfUnchecked(cause);
+      throw new UncheckedExecutionException(cause);
+    }
+  }
 
-    if (response.getStatus() == Response.Status.OK.getStatusCode()) {
-      final String payload = response.readEntity(String.class);
-      Concordances concordances = new ObjectMapper().readValue(payload, Concordances.class);
-
-      if (concordances != null && concordances.getConcordances() != null) {
-        // get only concordances that have UPP-compliant UUIDs
-        filteredConcordances =
-            concordances.getConcordances().stream()
-                .filter(
-                    concordance ->
-                        concordance.getIdentifier().getAuthority().endsWith("/system/UPP"))
-                .collect(Collectors.toList());
+  private List<Concordance> loadUPPConcordances(String conceptUUID)
+      throws JsonProcessingException {
+    final Concordances concordances;
+    // closed whatever the status, so the connection always goes back to the pool
+    try (Response response =
+        apiCallGuard.call(() -> publicConcordancesApiClient.getConcordances(conceptUUID))) {
+      if (response.getStatus() == Response.Status.NOT_FOUND.getStatusCode()) {
+        return Collections.emptyList();
+      }
+      if (response.getStatus() != Response.Status.OK.getStatusCode()) {
+        throw new UncacheableResponseException(response.getStatus());
       }
+
+      final String payload = response.readEntity(String.class);
+      concordances = concordancesReader.readValue(payload);
     }
 
-    return filteredConcordances;
+    if (concordances == null || concordances.getConcordances() == null) {
+      return Collections.emptyList();
+    }
+
+    // get only concordances that have UPP-compliant UUIDs
+    return Collections.unmodifiableList(
+        concordances.getConcordances().stream()
+            .filter(
+                concordance -> concordance.getIdentifier().getAuthority().endsWith("/system/UPP"))
+            .collect(Collectors.toList()));
+  }
+
+  /** Signals a response that must not be cached, e.g. a server error from the API. */
+  private static class UncacheableResponseException extends RuntimeException {
+    UncacheableResponseException(int status) {
+      super("Unexpected status " + status + " from public-concordances-api", null, false, false);
+    }
   }
 }
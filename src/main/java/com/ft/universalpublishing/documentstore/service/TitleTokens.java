@@ -0,0 +1,44 @@
+package com.ft.universalpublishing.documentstore.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * The words of a list title, lowercased and without accents, as stored in {@link #FIELD} and
+ * matched by title searches. Tokens hold only letters and digits, so they can be put in a regex
+ * as they are.
+ */
+public final class TitleTokens {
+
+  /** The stored field holding the tokens of a list's title. It is never returned to readers. */
+  public static final String FIELD = "titleTokens";
+
+  private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+  private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+  private TitleTokens() {}
+
+  /** @return the distinct tokens of {@code text}, in the order they first appear */
+  public static List<String> of(String text) {
+    if (text == null) {
+      return new ArrayList<>();
+    }
+    String normalized =
+        MARKS
+            .matcher(Normalizer.normalize(text, Normalizer.Form.NFKD))
+            .replaceAll("")
+            .toLowerCase(Locale.ROOT);
+    Set<String> tokens = new LinkedHashSet<>();
+    for (String token : SEPARATORS.split(normalized)) {
+      if (!token.isEmpty()) {
+        tokens.add(token);
+      }
+    }
+    return new ArrayList<>(tokens);
+  }
+}
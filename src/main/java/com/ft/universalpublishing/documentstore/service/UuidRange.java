@@ -0,0 +1,70 @@
+package com.ft.universalpublishing.documentstore.service;
+
+import com.mongodb.client.model.Filters;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+
+/**
+ * A slice of a collection's uuid space, exported in uuid order so that a consumer can resume after
+ * the last uuid it received. Partitions split the space on the first four hex digits.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class UuidRange {
+
+  public static final int MAX_PARTITIONS = 0x10000;
+
+  /** Inclusive lower bound, or {@code null} for none. */
+  private final String from;
+  /** Exclusive upper bound, or {@code null} for none. */
+  private final String to;
+  /** Last uuid already received, or {@code null} to start at the beginning of the range. */
+  private final String after;
+
+  public static UuidRange all() {
+    return new UuidRange(null, null, null);
+  }
+
+  /** The {@code index}-th of {@code count} disjoint ranges that together cover every uuid. */
+  public static UuidRange partition(int index, int count) {
+    if (count < 1 || count > MAX_PARTITIONS || index < 0 || index >= count) {
+      throw new IllegalArgumentException(
+          String.format("invalid partition %d of %d", index, count));
+    }
+    return new UuidRange(
+        index == 0 ? null : prefix(index, count),
+        index == count - 1 ? null : prefix(index + 1, count),
+        null);
+  }
+
+  public UuidRange after(String uuid) {
+    return new UuidRange(from, to, uuid);
+  }
+
+  Bson toFilter() {
+    List<Bson> filters = new ArrayList<>();
+    if (from != null) {
+      filters.add(Filters.gte("uuid", from));
+    }
+    if (to != null) {
+      filters.add(Filters.lt("uuid", to));
+    }
+    if (after != null) {
+      filters.add(Filters.gt("uuid", after));
+    }
+    return filters.isEmpty() ? new Document() : Filters.and(filters);
+  }
+
+  private static String prefix(int index, int count) {
+    return String.format("%04x", (long) index * MAX_PARTITIONS / count);
+  }
+}
@@ -0,0 +1,22 @@
+package com.ft.universalpublishing.documentstore.service.cache;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.cache.Cache;
+
+public final class CacheMetrics {
+
+  private CacheMetrics() {}
+
+  /** Registers hit, miss, eviction and size gauges for a cache built with {@code recordStats()}. */
+  public static void register(MetricRegistry metrics, String name, Cache<?, ?> cache) {
+    metrics.register(
+        MetricRegistry.name(name, "hits"), (Gauge<Long>) () -> cache.stats().hitCount());
+    metrics.register(
+        MetricRegistry.name(name, "misses"), (Gauge<Long>) () -> cache.stats().missCount());
+    metrics.register(
+        MetricRegistry.name(name, "evictions"),
+        (Gauge<Long>) () -> cache.stats().evictionCount());
+    metrics.register(MetricRegistry.name(name, "size"), (Gauge<Long>) cache::size);
+  }
+}
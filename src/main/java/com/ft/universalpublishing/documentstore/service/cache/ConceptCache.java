@@ -0,0 +1,64 @@
+package com.ft.universalpublishing.documentstore.service.cache;
+
+import com.codahale.metrics.MetricRegistry;
+import com.ft.universalpublishing.documentstore.CacheConfig;
+import com.ft.universalpublishing.documentstore.model.read.Concept;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache of concepts resolved by the Public Concepts API, keyed by the concept UUID that was asked
+ * for. Concepts the API reported as not found are remembered separately, usually for a shorter
+ * time, so that lists referencing deleted concepts don't hit the API on every read.
+ */
+public class ConceptCache {
+
+  private final Cache<String, Concept> concepts;
+  private final Cache<String, Boolean> missingConcepts;
+
+  public ConceptCache(
+      CacheConfig conceptConfig, CacheConfig missingConceptConfig, MetricRegistry metrics) {
+    this.concepts = build(conceptConfig);
+    this.missingConcepts = build(missingConceptConfig);
+    CacheMetrics.register(metrics, MetricRegistry.name(ConceptCache.class, "found"), concepts);
+    CacheMetrics.register(
+        metrics, MetricRegistry.name(ConceptCache.class, "missing"), missingConcepts);
+  }
+
+  private ConceptCache() {
+    this.concepts = CacheBuilder.newBuilder().maximumSize(0).build();
+    this.missingConcepts = CacheBuilder.newBuilder().maximumSize(0).build();
+  }
+
+  public static ConceptCache disabled() {
+    return new ConceptCache();
+  }
+
+  /** @return a copy of the cached concept, or null if it is not cached */
+  public Concept get(String conceptUUID) {
+    Concept concept = concepts.getIfPresent(conceptUUID);
+    return concept == null ? null : concept.copy();
+  }
+
+  public boolean isMissing(String conceptUUID) {
+    return missingConcepts.getIfPresent(conceptUUID) != null;
+  }
+
+  public void put(String conceptUUID, Concept concept) {
+    concepts.put(conceptUUID, concept.copy());
+    missingConcepts.invalidate(conceptUUID);
+  }
+
+  public void putMissing(String conceptUUID) {
+    missingConcepts.put(conceptUUID, Boolean.TRUE);
+  }
+
+  private static <V> Cache<String, V> build(CacheConfig config) {
+    return CacheBuilder.newBuilder()
+        .maximumSize(config.getMaximumSize())
+        .expireAfterWrite(config.getExpireAfterWrite().toMilliseconds(), TimeUnit.MILLISECONDS)
+        .recordStats()
+        .build();
+  }
+}
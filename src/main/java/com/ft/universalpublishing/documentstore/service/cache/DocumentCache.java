@@ -0,0 +1,104 @@
+package com.ft.universalpublishing.documentstore.service.cache;
+
+import com.codahale.metrics.MetricRegistry;
+import com.ft.universalpublishing.documentstore.CacheConfig;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.bson.RawBsonDocument;
+
+/**
+ * Bounded, per-collection cache of stored documents keyed by UUID. Documents are kept in their raw
+ * BSON form, so cached entries are immutable and every reader decodes its own copy.
+ *
+ * <p>Entries are invalidated on write and delete by the instance that served them; changes made
+ * through other instances become visible once the entry expires.
+ *
+ * <p>A reader takes the {@link #generation} of a UUID before it reads the document from Mongo and
+ * hands it back to {@link #put}, which drops the document if the UUID was invalidated since. That
+ * keeps a read that raced a write from caching what the write replaced.
+ */
+public class DocumentCache {
+
+  // invalidations are counted per stripe of UUIDs; two UUIDs sharing a stripe only costs a put
+  private static final int GENERATION_STRIPES = 1024;
+
+  private final Map<String, Cache<String, RawBsonDocument>> caches;
+  private final Map<String, AtomicLongArray> generations;
+
+  public DocumentCache(Map<String, CacheConfig> configs, MetricRegistry metrics) {
+    Map<String, Cache<String, RawBsonDocument>> caches = new HashMap<>();
+    Map<String, AtomicLongArray> generations = new HashMap<>();
+    configs.forEach(
+        (collection, config) -> {
+          Cache<String, RawBsonDocument> cache =
+              CacheBuilder.newBuilder()
+                  .maximumSize(config.getMaximumSize())
+                  .expireAfterWrite(
+                      config.getExpireAfterWrite().toMilliseconds(), TimeUnit.MILLISECONDS)
+                  .recordStats()
+                  .build();
+          caches.put(collection, cache);
+          generations.put(collection, new AtomicLongArray(GENERATION_STRIPES));
+          CacheMetrics.register(
+              metrics, MetricRegistry.name(DocumentCache.class, collection), cache);
+        });
+    this.caches = Collections.unmodifiableMap(caches);
+    this.generations = Collections.unmodifiableMap(generations);
+  }
+
+  public static DocumentCache disabled() {
+    return new DocumentCache(Collections.emptyMap(), new MetricRegistry());
+  }
+
+  public boolean isEnabled(String collection) {
+    return caches.containsKey(collection);
+  }
+
+  public RawBsonDocument get(String collection, String uuid) {
+    Cache<String, RawBsonDocument> cache = caches.get(collection);
+    return cache == null ? null : cache.getIfPresent(uuid);
+  }
+
+  /** @return the stamp to pass to {@link #put} for a document read from now on */
+  public long generation(String collection, String uuid) {
+    AtomicLongArray stripes = generations.get(collection);
+    return stripes == null ? 0 : stripes.get(stripe(uuid));
+  }
+
+  /** Caches a document unless its UUID was invalidated after {@code generation} was taken. */
+  public void put(String collection, String uuid, RawBsonDocument document, long generation) {
+    Cache<String, RawBsonDocument> cache = caches.get(collection);
+    if (cache != null) {
+      AtomicLongArray stripes = generations.get(collection);
+      // compute runs under the entry's lock, so it cannot interleave with an invalidation
+      cache
+          .asMap()
+          .compute(
+              uuid, (key, cached) -> stripes.get(stripe(key)) == generation ? document : cached);
+    }
+  }
+
+  public void invalidate(String collection, String uuid) {
+    Cache<String, RawBsonDocument> cache = caches.get(collection);
+    if (cache != null) {
+      AtomicLongArray stripes = generations.get(collection);
+      cache
+          .asMap()
+          .compute(
+              uuid,
+              (key, cached) -> {
+                stripes.incrementAndGet(stripe(key));
+                return null;
+              });
+    }
+  }
+
+  private static int stripe(String uuid) {
+    return (uuid.hashCode() & Integer.MAX_VALUE) % GENERATION_STRIPES;
+  }
+}
@@ -0,0 +1,160 @@
+package com.ft.universalpublishing.documentstore.service.filter;
+
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import java.io.IOException;
+import javax.servlet.*;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * Meters request and response entity bytes as the application reads and writes them, which is
+ * before response compression. Set against the connector's bytes on the wire, this shows what
+ * compression saves.
+ */
+public class ByteCountingFilter implements Filter {
+
+  private final Meter bytesIn;
+  private final Meter bytesOut;
+
+  public ByteCountingFilter(MetricRegistry metrics) {
+    this.bytesIn = metrics.meter(MetricRegistry.name(ByteCountingFilter.class, "entity-bytes-in"));
+    this.bytesOut =
+        metrics.meter(MetricRegistry.name(ByteCountingFilter.class, "entity-bytes-out"));
+  }
+
+  public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+      throws IOException, ServletException {
+    chain.doFilter(
+        new CountingRequest((HttpServletRequest) request),
+        new CountingResponse((HttpServletResponse) response));
+  }
+
+  public void destroy() {}
+
+  public void init(FilterConfig arg0) {}
+
+  private class CountingRequest extends HttpServletRequestWrapper {
+
+    private ServletInputStream inputStream;
+
+    CountingRequest(HttpServletRequest request) {
+      super(request);
+    }
+
+    @Override
+    public ServletInputStream getInputStream() throws IOException {
+      if (inputStream == null) {
+        inputStream = new CountingInputStream(super.getInputStream());
+      }
+      return inputStream;
+    }
+  }
+
+  private class CountingResponse extends HttpServletResponseWrapper {
+
+    private ServletOutputStream outputStream;
+
+    CountingResponse(HttpServletResponse response) {
+      super(response);
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+      if (outputStream == null) {
+        outputStream = new CountingOutputStream(super.getOutputStream());
+      }
+      return outputStream;
+    }
+  }
+
+  private class CountingInputStream extends ServletInputStream {
+
+    private final ServletInputStream delegate;
+
+    CountingInputStream(ServletInputStream delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public int read() throws IOException {
+      int b = delegate.read();
+      if (b != -1) {
+        bytesIn.mark();
+      }
+      return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      int read = delegate.read(b, off, len);
+      if (read > 0) {
+        bytesIn.mark(read);
+      }
+      return read;
+    }
+
+    @Override
+    public boolean isFinished() {
+      return delegate.isFinished();
+    }
+
+    @Override
+    public boolean isReady() {
+      return delegate.isReady();
+    }
+
+    @Override
+    public void setReadListener(ReadListener readListener) {
+      delegate.setReadListener(readListener);
+    }
+
+    @Override
+    public void close() throws IOException {
+      delegate.close();
+    }
+  }
+
+  private class CountingOutputStream extends ServletOutputStream {
+
+    private final ServletOutputStream delegate;
+
+    CountingOutputStream(ServletOutputStream delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      delegate.write(b);
+      bytesOut.mark();
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      delegate.write(b, off, len);
+      bytesOut.mark(len);
+    }
+
+    @Override
+    public void flush() throws IOException {
+      delegate.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+      delegate.close();
+    }
+
+    @Override
+    public boolean isReady() {
+      return delegate.isReady();
+    }
+
+    @Override
+    public void setWriteListener(WriteListener writeListener) {
+      delegate.setWriteListener(writeListener);
+    }
+  }
+}
@@ -5,10 +5,17 @@ import static javax.servlet.http.HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ft.api.jaxrs.errors.ClientError;
+import com.ft.universalpublishing.documentstore.exception.ExternalSystemUnavailableException;
 import com.ft.universalpublishing.documentstore.model.read.Concept;
 import com.ft.universalpublishing.documentstore.model.read.ContentList;
 import com.ft.universalpublishing.documentstore.model.read.Context;
+import com.ft.universalpublishing.documentstore.service.DocumentVersion;
 import com.ft.universalpublishing.documentstore.service.PublicConceptsApiService;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import java.nio.charset.StandardCharsets;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.Response;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
@@ -19,12 +26,13 @@ public class ApplyConcordedConceptToListTarget implements Target {
 
   PublicConceptsApiService publicConceptsApiService;
   String apiPath;
+  ObjectMapper objectMapper;
 
   @Override
   public Object execute(Context context) {
     try {
       ContentList contentList =
-          new ObjectMapper().convertValue(context.getContentMap(), ContentList.class);
+          objectMapper.convertValue(context.getContentMap(), ContentList.class);
       Concept concept = contentList.getConcept();
       String conceptUUID = null;
 
@@ -32,15 +40,41 @@ public class ApplyConcordedConceptToListTarget implements Target {
         conceptUUID = concept.extractConceptUuid();
       }
 
-      Concept concordedConcept = publicConceptsApiService.getUpToDateConcept(conceptUUID);
-      contentList.setConcept(concordedConcept);
+      try {
+        contentList.setConcept(publicConceptsApiService.getUpToDateConcept(conceptUUID));
+      } catch (ExternalSystemUnavailableException e) {
+        // the concept stored with the list is still worth serving
+      }
       contentList.addIds();
       contentList.addApiUrls(apiPath);
       contentList.removePrivateFields();
 
-      return contentList;
+      DocumentVersion version = context.getVersion();
+      if (version == null || version.getEtag() == null) {
+        return contentList;
+      }
+      EntityTag entityTag = entityTag(version, contentList.getConcept());
+      if (context.getRequest() != null) {
+        Response.ResponseBuilder notModified =
+            context.getRequest().evaluatePreconditions(entityTag);
+        if (notModified != null) {
+          return notModified.build();
+        }
+      }
+      return Response.ok(contentList).tag(entityTag).build();
     } catch (IllegalArgumentException | JsonProcessingException e) {
       throw ClientError.status(SC_INTERNAL_SERVER_ERROR).error(e.getMessage()).exception();
     }
   }
+
+  /** The list is served with its concept as the Public Concepts API has it, so both are tagged. */
+  private EntityTag entityTag(DocumentVersion version, Concept concept)
+      throws JsonProcessingException {
+    Hasher hasher =
+        Hashing.murmur3_128().newHasher().putString(version.getEtag(), StandardCharsets.UTF_8);
+    if (concept != null) {
+      hasher.putBytes(objectMapper.writeValueAsBytes(concept));
+    }
+    return new EntityTag(hasher.hash().toString());
+  }
 }
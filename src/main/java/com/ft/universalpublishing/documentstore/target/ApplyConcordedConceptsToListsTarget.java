@@ -2,15 +2,19 @@ package com.ft.universalpublishing.documentstore.target;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.ft.api.jaxrs.errors.ClientError;
+import com.ft.universalpublishing.documentstore.exception.ExternalSystemUnavailableException;
+import com.ft.universalpublishing.documentstore.handler.SearchConcordedConceptsHandler;
 import com.ft.universalpublishing.documentstore.model.read.Concept;
 import com.ft.universalpublishing.documentstore.model.read.Context;
 import com.ft.universalpublishing.documentstore.service.PublicConceptsApiService;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import javax.servlet.http.HttpServletResponse;
+import javax.ws.rs.core.Response;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
@@ -39,7 +43,13 @@ public class ApplyConcordedConceptsToListsTarget implements Target {
     conceptUuids = conceptUuidSet.toArray(conceptUuids);
 
     try {
-      final List<Concept> conceptsFound = publicConceptsApiService.searchConcepts(conceptUuids);
+      // already looked up alongside the list query when the search was for a concept
+      @SuppressWarnings("unchecked")
+      List<Concept> conceptsFound =
+          (List<Concept>) context.getParameter(SearchConcordedConceptsHandler.CONCEPTS);
+      if (conceptsFound == null) {
+        conceptsFound = searchConcepts(conceptUuids);
+      }
       final Map<String, Concept> originalUUIDForConcepts = new HashMap<>();
       conceptsFound.forEach(
           concept -> {
@@ -60,7 +70,17 @@ public class ApplyConcordedConceptsToListsTarget implements Target {
             }
           });
 
-      return listDocuments;
+      Response.ResponseBuilder response = Response.ok(listDocuments);
+      if (context.getNext() != null && context.getUriInfo() != null) {
+        response.link(
+            context
+                .getUriInfo()
+                .getRequestUriBuilder()
+                .replaceQueryParam("after", context.getNext())
+                .build(),
+            "next");
+      }
+      return response.build();
 
     } catch (final JsonProcessingException e) {
       throw ClientError.status(HttpServletResponse.SC_INTERNAL_SERVER_ERROR)
@@ -68,4 +88,13 @@ public class ApplyConcordedConceptsToListsTarget implements Target {
           .exception();
     }
   }
+
+  // lists keep the concepts stored with them when the concepts API is not being called
+  private List<Concept> searchConcepts(String[] conceptUuids) throws JsonProcessingException {
+    try {
+      return publicConceptsApiService.searchConcepts(conceptUuids);
+    } catch (ExternalSystemUnavailableException e) {
+      return Collections.emptyList();
+    }
+  }
 }
@@ -0,0 +1,24 @@
+package com.ft.universalpublishing.documentstore.target;
+
+import com.ft.universalpublishing.documentstore.service.BsonJsonTranscoder;
+import java.io.IOException;
+import java.io.OutputStream;
+import javax.ws.rs.core.StreamingOutput;
+import lombok.RequiredArgsConstructor;
+import org.bson.RawBsonDocument;
+
+/**
+ * Writes a document that has already been read from Mongo, so unlike most streamed entities it
+ * can be written more than once, and to several responses at the same time.
+ */
+@RequiredArgsConstructor
+public class RawDocumentOutput implements StreamingOutput {
+
+  private final RawBsonDocument document;
+  private final BsonJsonTranscoder transcoder;
+
+  @Override
+  public void write(OutputStream outputStream) throws IOException {
+    transcoder.write(document, outputStream);
+  }
+}
@@ -0,0 +1,95 @@
+package com.ft.universalpublishing.documentstore.target;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.ft.universalpublishing.documentstore.model.read.Context;
+import com.ft.universalpublishing.documentstore.service.BsonJsonTranscoder;
+import com.ft.universalpublishing.documentstore.service.MongoDocumentStoreService;
+import com.google.common.collect.Lists;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.ws.rs.core.StreamingOutput;
+import lombok.RequiredArgsConstructor;
+import org.bson.RawBsonDocument;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Same response as {@link FindMultipleResourcesByUuidsTarget}, written as a JSON array while the
+ * documents are looked up. The UUIDs are fetched in batches and each batch is written in the
+ * requested order before the next is fetched, so at most one batch is held in memory.
+ *
+ * <p>A failure to fetch a later batch cannot change the status any more; the response is aborted
+ * with its array left open, so clients can tell it apart from a complete one.
+ */
+@RequiredArgsConstructor
+public class StreamMultipleResourcesByUuidsTarget implements Target {
+
+  static final int BATCH_SIZE = 100;
+
+  private static final Logger LOG =
+      LoggerFactory.getLogger(StreamMultipleResourcesByUuidsTarget.class);
+
+  private final MongoDocumentStoreService documentStoreService;
+  private final BsonJsonTranscoder transcoder;
+
+  @Override
+  public Object execute(Context context) {
+    String collection = context.getCollection();
+    Set<String> fields = context.getFields();
+    List<String> uuids = new ArrayList<>(context.getValidatedUuids().size());
+    context.getValidatedUuids().forEach(uuid -> uuids.add(uuid.toString()));
+    List<List<String>> batches = Lists.partition(uuids, BATCH_SIZE);
+
+    // the first batch is fetched up front so that Mongo failures still get an error response
+    Map<String, RawBsonDocument> firstBatch =
+        batches.isEmpty()
+            ? Collections.emptyMap()
+            : documentStoreService.findRawByUuids(collection, batches.get(0), fields);
+
+    return (StreamingOutput)
+        outputStream -> {
+          JsonGenerator generator = transcoder.createGenerator(outputStream);
+          int i = 0;
+          try {
+            generator.writeStartArray();
+            for (; i < batches.size(); i++) {
+              List<String> batch = batches.get(i);
+              Map<String, RawBsonDocument> found =
+                  i == 0
+                      ? firstBatch
+                      : documentStoreService.findRawByUuids(collection, batch, fields);
+              writeInOrder(batch, found, generator);
+            }
+            generator.writeEndArray();
+          } catch (RuntimeException e) {
+            // the 200 is sent by now, so leave the array unclosed and let the exception abort the
+            // connection: the client gets a broken response rather than one short of documents
+            LOG.error(
+                "Failed streaming batch {} of {} from collection {}, aborting the response",
+                i + 1,
+                batches.size(),
+                collection,
+                e);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+            throw e;
+          } finally {
+            generator.close();
+          }
+        };
+  }
+
+  private void writeInOrder(
+      List<String> batch, Map<String, RawBsonDocument> found, JsonGenerator generator)
+      throws IOException {
+    for (String uuid : batch) {
+      RawBsonDocument document = found.get(uuid);
+      if (document != null) {
+        transcoder.write(document, generator);
+      }
+    }
+  }
+}
@@ -0,0 +1,90 @@
+package com.ft.universalpublishing.documentstore.target;
+
+import com.ft.universalpublishing.documentstore.model.read.Context;
+import com.ft.universalpublishing.documentstore.service.BsonJsonTranscoder;
+import com.ft.universalpublishing.documentstore.service.DocumentVersion;
+import com.ft.universalpublishing.documentstore.service.MongoDocumentStoreService;
+import com.google.common.hash.Hashing;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+import lombok.RequiredArgsConstructor;
+import org.bson.RawBsonDocument;
+
+/**
+ * Same response as {@link FindResourceByUuidTarget}, but the stored BSON is transcoded straight
+ * into the response instead of going through a decoded document.
+ *
+ * <p>Responses carry an {@code ETag} and, where the document has one, a {@code Last-Modified}
+ * header. A conditional request for an unchanged document is answered with a 304 from the
+ * document's stored version, without reading the document itself.
+ */
+@RequiredArgsConstructor
+public class StreamResourceByUuidTarget implements Target {
+
+  private final MongoDocumentStoreService documentStoreService;
+  private final BsonJsonTranscoder transcoder;
+
+  @Override
+  public Object execute(Context context) {
+    String collection = context.getCollection();
+    UUID uuid = UUID.fromString(context.getUuid());
+    Set<String> fields = context.getFields();
+    Request request = context.getRequest();
+
+    if (request != null && isConditional(context.getHttpHeaders())) {
+      DocumentVersion version = documentStoreService.findVersionByUuid(collection, uuid);
+      if (version.getEtag() != null) {
+        Response.ResponseBuilder notModified = evaluatePreconditions(request, version, fields);
+        if (notModified != null) {
+          return notModified.build();
+        }
+      }
+    }
+
+    // looked up here rather than in the StreamingOutput so a missing document is still a 404
+    RawBsonDocument document = documentStoreService.findRawByUuid(collection, uuid, fields);
+    DocumentVersion version = DocumentVersion.of(document);
+    if (request != null) {
+      Response.ResponseBuilder notModified = evaluatePreconditions(request, version, fields);
+      if (notModified != null) {
+        return notModified.build();
+      }
+    }
+    return Response.ok(new RawDocumentOutput(document, transcoder))
+        .tag(entityTag(version, fields))
+        .lastModified(version.getLastModified())
+        .build();
+  }
+
+  private static boolean isConditional(HttpHeaders httpHeaders) {
+    return httpHeaders != null
+        && (httpHeaders.getHeaderString(HttpHeaders.IF_NONE_MATCH) != null
+            || httpHeaders.getHeaderString(HttpHeaders.IF_MODIFIED_SINCE) != null);
+  }
+
+  private static Response.ResponseBuilder evaluatePreconditions(
+      Request request, DocumentVersion version, Set<String> fields) {
+    EntityTag entityTag = entityTag(version, fields);
+    return version.getLastModified() == null
+        ? request.evaluatePreconditions(entityTag)
+        : request.evaluatePreconditions(version.getLastModified(), entityTag);
+  }
+
+  /** A projection is a different representation of the document, so it gets its own tag. */
+  private static EntityTag entityTag(DocumentVersion version, Set<String> fields) {
+    if (fields == null) {
+      return new EntityTag(version.getEtag());
+    }
+    String projection = String.join(",", new TreeSet<>(fields));
+    return new EntityTag(
+        version.getEtag()
+            + "-"
+            + Hashing.murmur3_32().hashString(projection, StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,54 @@
+package com.ft.universalpublishing.documentstore.write;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonValue;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/** Outcome of a single document within a bulk request. */
+@Getter
+@EqualsAndHashCode
+@ToString
+@RequiredArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkItemResult {
+
+  private final String uuid;
+  private final Status status;
+  private final String message;
+
+  public enum Status {
+    CREATED,
+    UPDATED,
+    DELETED,
+    NOT_FOUND,
+    FAILED;
+
+    @JsonValue
+    public String toJson() {
+      return name().toLowerCase();
+    }
+  }
+
+  public static BulkItemResult created(String uuid) {
+    return new BulkItemResult(uuid, Status.CREATED, null);
+  }
+
+  public static BulkItemResult updated(String uuid) {
+    return new BulkItemResult(uuid, Status.UPDATED, null);
+  }
+
+  public static BulkItemResult deleted(String uuid) {
+    return new BulkItemResult(uuid, Status.DELETED, null);
+  }
+
+  public static BulkItemResult notFound(String uuid) {
+    return new BulkItemResult(uuid, Status.NOT_FOUND, null);
+  }
+
+  public static BulkItemResult failed(String uuid, String message) {
+    return new BulkItemResult(uuid, Status.FAILED, message);
+  }
+}
@@ -0,0 +1,49 @@
+package com.ft.universalpublishing.documentstore.write;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonValue;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * One line of a collection's change feed. {@code resumeToken} restarts the feed straight after this
+ * event; a {@code checkpoint} carries only a token.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+@RequiredArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"type", "uuid", "id", "clusterTime", "resumeToken"})
+public class ChangeEvent {
+
+  private final Type type;
+  /**
+   * Absent on deletes made other than through this service, as Mongo only reports the deleted
+   * document's {@code id}.
+   */
+  private final String uuid;
+
+  private final String id;
+  private final String clusterTime;
+  private final String resumeToken;
+
+  public enum Type {
+    CREATED,
+    UPDATED,
+    DELETED,
+    CHECKPOINT;
+
+    @JsonValue
+    public String toJson() {
+      return name().toLowerCase();
+    }
+  }
+
+  public static ChangeEvent checkpoint(String resumeToken) {
+    return new ChangeEvent(Type.CHECKPOINT, null, null, null, resumeToken);
+  }
+}
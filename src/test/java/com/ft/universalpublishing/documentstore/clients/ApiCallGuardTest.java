@@ -0,0 +1,145 @@
+package com.ft.universalpublishing.documentstore.clients;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.codahale.metrics.MetricRegistry;
+import com.ft.universalpublishing.documentstore.ApiResilienceConfig;
+import com.ft.universalpublishing.documentstore.exception.ExternalSystemUnavailableException;
+import io.dropwizard.util.Duration;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.core.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ApiCallGuardTest {
+
+  private MetricRegistry metrics;
+  private ApiCallGuard guard;
+
+  @BeforeEach
+  public void setup() {
+    ApiResilienceConfig config = new ApiResilienceConfig();
+    config.setMaxConcurrentCalls(1);
+    config.setSlidingWindowSize(4);
+    config.setMinimumNumberOfCalls(4);
+    metrics = new MetricRegistry();
+    guard = new ApiCallGuard("test-api", config, metrics);
+  }
+
+  @Test
+  public void shouldReturnServerErrorsButOpenOnThem() {
+    for (int i = 0; i < 4; i++) {
+      Response response = guard.call(() -> Response.serverError().build());
+      assertThat(response.getStatus(), is(500));
+    }
+
+    assertThat(guard.getState(), is(CircuitBreaker.State.OPEN));
+  }
+
+  @Test
+  public void shouldFailFastWithoutCallingWhileOpen() {
+    for (int i = 0; i < 4; i++) {
+      assertThrows(
+          ExternalSystemUnavailableException.class,
+          () ->
+              guard.call(
+                  () -> {
+                    throw new ProcessingException("timed out");
+                  }));
+    }
+
+    AtomicInteger calls = new AtomicInteger();
+    assertThrows(
+        ExternalSystemUnavailableException.class,
+        () ->
+            guard.call(
+                () -> {
+                  calls.incrementAndGet();
+                  return Response.ok().build();
+                }));
+    assertThat(calls.get(), is(0));
+    assertThat(rejected(), is(1L));
+  }
+
+  @Test
+  public void shouldStayClosedOnClientErrors() {
+    for (int i = 0; i < 4; i++) {
+      guard.call(() -> Response.status(Response.Status.NOT_FOUND).build());
+    }
+
+    assertThat(guard.getState(), is(CircuitBreaker.State.CLOSED));
+  }
+
+  @Test
+  public void shouldOpenOnSlowCallsByTheirOwnThreshold() {
+    ApiResilienceConfig config = new ApiResilienceConfig();
+    config.setSlidingWindowSize(4);
+    config.setMinimumNumberOfCalls(4);
+    config.setFailureRateThreshold(100);
+    config.setSlowCallRateThreshold(50);
+    config.setSlowCallDurationThreshold(Duration.milliseconds(1));
+    ApiCallGuard slowGuard = new ApiCallGuard("slow-api", config, new MetricRegistry());
+
+    for (int i = 0; i < 2; i++) {
+      slowGuard.call(() -> Response.ok().build());
+      slowGuard.call(
+          () -> {
+            try {
+              Thread.sleep(10);
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+            return Response.ok().build();
+          });
+    }
+
+    assertThat(slowGuard.getState(), is(CircuitBreaker.State.OPEN));
+  }
+
+  @Test
+  public void shouldRejectCallsBeyondTheBulkhead() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<Response> blocked =
+          executor.submit(
+              () ->
+                  guard.call(
+                      () -> {
+                        started.countDown();
+                        try {
+                          release.await();
+                        } catch (InterruptedException e) {
+                          Thread.currentThread().interrupt();
+                        }
+                        return Response.ok().build();
+                      }));
+      started.await();
+
+      assertThrows(
+          ExternalSystemUnavailableException.class, () -> guard.call(() -> Response.ok().build()));
+
+      release.countDown();
+      assertThat(blocked.get().getStatus(), is(200));
+      assertThat(guard.call(() -> Response.ok().build()).getStatus(), is(200));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private long rejected() {
+    return metrics
+        .getMeters()
+        .get(MetricRegistry.name(ApiCallGuard.class, "test-api", "rejected"))
+        .getCount();
+  }
+}
@@ -0,0 +1,174 @@
+package com.ft.universalpublishing.documentstore.clients;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import com.codahale.metrics.MetricRegistry;
+import com.ft.universalpublishing.documentstore.HedgingConfig;
+import io.dropwizard.util.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import javax.ws.rs.core.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class RequestHedgerTest {
+
+  private final ExecutorService executor = Executors.newCachedThreadPool();
+  private final CountDownLatch releaseSlow = new CountDownLatch(1);
+  private final Response slow = mock(Response.class);
+  private final Response fast = mock(Response.class);
+  private final AtomicInteger attempts = new AtomicInteger();
+
+  private MetricRegistry metrics;
+  private HedgingConfig config;
+
+  @BeforeEach
+  public void setup() {
+    metrics = new MetricRegistry();
+    config = new HedgingConfig();
+    config.setEnabled(true);
+    config.setMinDelay(Duration.milliseconds(10));
+    config.setBudget(1.0);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    releaseSlow.countDown();
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void shouldCallOnceOnTheCallingThreadWhenDisabled() {
+    Thread caller = Thread.currentThread();
+    Response response =
+        RequestHedger.disabled()
+            .call(
+                () -> {
+                  assertThat(Thread.currentThread(), sameInstance(caller));
+                  attempts.incrementAndGet();
+                  return fast;
+                });
+
+    assertThat(response, sameInstance(fast));
+    assertThat(attempts.get(), is(1));
+  }
+
+  @Test
+  public void shouldReturnTheHedgeWhenTheFirstRequestIsSlow() {
+    RequestHedger hedger = new RequestHedger("test-api", config, executor, metrics);
+
+    Response response = hedger.call(slowThenFast());
+    releaseSlow.countDown();
+
+    assertThat(response, sameInstance(fast));
+    assertThat(count("hedges"), is(1L));
+    assertThat(count("wins"), is(1L));
+    verify(slow, timeout(1000)).close();
+  }
+
+  @Test
+  public void shouldNotHedgeBeyondTheBudget() {
+    config.setBudget(0);
+    RequestHedger hedger = new RequestHedger("test-api", config, executor, metrics);
+
+    executor.execute(
+        () -> {
+          try {
+            Thread.sleep(50);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          releaseSlow.countDown();
+        });
+    Response response = hedger.call(slowThenFast());
+
+    assertThat(response, sameInstance(slow));
+    assertThat(attempts.get(), is(1));
+    assertThat(count("hedges"), is(0L));
+    assertThat(count("over-budget"), is(1L));
+  }
+
+  @Test
+  public void shouldCallOnTheCallingThreadWhenNoThreadIsFree() {
+    RequestHedger hedger =
+        new RequestHedger(
+            "test-api",
+            config,
+            command -> {
+              throw new RejectedExecutionException();
+            },
+            metrics);
+    Thread caller = Thread.currentThread();
+
+    Response response =
+        hedger.call(
+            () -> {
+              assertThat(Thread.currentThread(), sameInstance(caller));
+              attempts.incrementAndGet();
+              return fast;
+            });
+
+    assertThat(response, sameInstance(fast));
+    assertThat(attempts.get(), is(1));
+  }
+
+  @Test
+  public void shouldWaitForTheFirstRequestWhenTheHedgeCannotStart() {
+    ThreadPoolExecutor oneThread =
+        new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new SynchronousQueue<>());
+    RequestHedger hedger = new RequestHedger("test-api", config, oneThread, metrics);
+    try {
+      executor.execute(
+          () -> {
+            try {
+              Thread.sleep(50);
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+            releaseSlow.countDown();
+          });
+      Response response = hedger.call(slowThenFast());
+
+      assertThat(response, sameInstance(slow));
+      assertThat(attempts.get(), is(1));
+      assertThat(count("hedges"), is(0L));
+      assertThat(count("over-budget"), is(1L));
+    } finally {
+      oneThread.shutdownNow();
+    }
+  }
+
+  private Supplier<Response> slowThenFast() {
+    return () -> {
+      if (attempts.incrementAndGet() > 1) {
+        return fast;
+      }
+      try {
+        releaseSlow.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return slow;
+    };
+  }
+
+  private long count(String meter) {
+    return metrics
+        .getMeters()
+        .get(MetricRegistry.name(RequestHedger.class, "test-api", meter))
+        .getCount();
+  }
+}
@@ -0,0 +1,78 @@
+package com.ft.universalpublishing.documentstore.handler;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.ft.universalpublishing.documentstore.model.read.Context;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class ParallelHandlerTest {
+
+  private final ExecutorService executor = Executors.newCachedThreadPool();
+
+  @AfterEach
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void shouldRunHandlersAtTheSameTime() {
+    CountDownLatch bothStarted = new CountDownLatch(2);
+    Handler first = context -> awaitOther(bothStarted, context, "first");
+    Handler second = context -> awaitOther(bothStarted, context, "second");
+    Context context = new Context();
+
+    new ParallelHandler(executor, first, second).handle(context);
+
+    assertThat(context.getParameter("first"), equalTo(true));
+    assertThat(context.getParameter("second"), equalTo(true));
+  }
+
+  @Test
+  public void shouldFailWithTheFirstFailureOnceAllHandlersAreDone() {
+    IllegalStateException failure = new IllegalStateException("second");
+    CountDownLatch thirdDone = new CountDownLatch(1);
+    Handler first = context -> {};
+    Handler second =
+        context -> {
+          throw failure;
+        };
+    Handler third =
+        context -> {
+          sleep();
+          thirdDone.countDown();
+        };
+
+    IllegalStateException thrown =
+        assertThrows(
+            IllegalStateException.class,
+            () -> new ParallelHandler(executor, first, second, third).handle(new Context()));
+
+    assertThat(thrown, sameInstance(failure));
+    assertThat(thirdDone.getCount(), equalTo(0L));
+  }
+
+  private static void awaitOther(CountDownLatch bothStarted, Context context, String name) {
+    bothStarted.countDown();
+    try {
+      context.addParameter(name, bothStarted.await(5, TimeUnit.SECONDS));
+    } catch (InterruptedException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static void sleep() {
+    try {
+      Thread.sleep(100);
+    } catch (InterruptedException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
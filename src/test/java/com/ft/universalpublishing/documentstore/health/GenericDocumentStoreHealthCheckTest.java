@@ -0,0 +1,64 @@
+package com.ft.universalpublishing.documentstore.health;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.ft.platform.dropwizard.AdvancedResult;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class GenericDocumentStoreHealthCheckTest {
+
+  private GenericDocumentStoreHealthCheck healthcheck;
+
+  @Mock private HealthcheckService service;
+
+  @BeforeEach
+  public void setUp() {
+    HealthcheckParameters healthcheckParameters =
+        new HealthcheckParameters(
+            "Public Concepts API health",
+            1,
+            "business impact message",
+            "technical summary message",
+            "https://panic_guide_url");
+    healthcheck = new GenericDocumentStoreHealthCheck(service, healthcheckParameters);
+  }
+
+  @Test
+  public void shouldReturnOKStatusWhenHealthyAndClosed() {
+    when(service.isHealthcheckOK()).thenReturn(true);
+    when(service.getCircuitBreakerState()).thenReturn(Optional.of(CircuitBreaker.State.CLOSED));
+
+    AdvancedResult result = healthcheck.checkAdvanced();
+
+    assertThat(result.status(), is(AdvancedResult.Status.OK));
+  }
+
+  @Test
+  public void shouldReturnErrorStatusWhenCircuitIsOpen() {
+    when(service.isHealthcheckOK()).thenReturn(true);
+    when(service.getCircuitBreakerState()).thenReturn(Optional.of(CircuitBreaker.State.OPEN));
+
+    AdvancedResult result = healthcheck.checkAdvanced();
+
+    assertThat(result.status(), is(AdvancedResult.Status.ERROR));
+  }
+
+  @Test
+  public void shouldReturnErrorStatusWhenUnhealthy() {
+    when(service.isHealthcheckOK()).thenReturn(false);
+    when(service.getCircuitBreakerState()).thenReturn(Optional.empty());
+
+    AdvancedResult result = healthcheck.checkAdvanced();
+
+    assertThat(result.status(), is(AdvancedResult.Status.ERROR));
+  }
+}
@@ -0,0 +1,212 @@
+package com.ft.universalpublishing.documentstore.resources;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ft.universalpublishing.documentstore.handler.HandlerChain;
+import com.ft.universalpublishing.documentstore.handler.PreSaveFieldRemovalHandler;
+import com.ft.universalpublishing.documentstore.handler.UuidValidationHandler;
+import com.ft.universalpublishing.documentstore.model.read.Operation;
+import com.ft.universalpublishing.documentstore.model.read.Pair;
+import com.ft.universalpublishing.documentstore.service.MongoDocumentStoreService;
+import com.ft.universalpublishing.documentstore.target.DeleteDocumentTarget;
+import com.ft.universalpublishing.documentstore.target.WriteDocumentTarget;
+import com.ft.universalpublishing.documentstore.validators.UuidValidator;
+import com.ft.universalpublishing.documentstore.write.BulkItemResult;
+import io.dropwizard.testing.junit5.DropwizardExtensionsSupport;
+import io.dropwizard.testing.junit5.ResourceExtension;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.core.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+
+@ExtendWith(DropwizardExtensionsSupport.class)
+public class DocumentBulkResourceTest {
+
+  private static final String BULK_PATH = "/content/__bulk";
+  private static final String MISSING_UUID = "9f9b1e4a-4f4e-11e6-beb8-9e71128cae77";
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  private static final MongoDocumentStoreService documentStoreService =
+      mock(MongoDocumentStoreService.class);
+
+  private static final ResourceExtension resources =
+      ResourceExtension.builder()
+          .addResource(
+              new DocumentBulkResource(
+                  getCollectionMap(),
+                  documentStoreService,
+                  OBJECT_MAPPER,
+                  new UuidValidator()))
+          .build();
+
+  private static Map<Pair<String, Operation>, HandlerChain> getCollectionMap() {
+    UuidValidationHandler uuidValidationHandler = new UuidValidationHandler(new UuidValidator());
+    Map<Pair<String, Operation>, HandlerChain> collections = new HashMap<>();
+    collections.put(
+        new Pair<>("content", Operation.ADD),
+        new HandlerChain()
+            .addHandlers(uuidValidationHandler, new PreSaveFieldRemovalHandler())
+            .setTarget(new WriteDocumentTarget(documentStoreService)));
+    collections.put(
+        new Pair<>("content", Operation.REMOVE),
+        new HandlerChain()
+            .addHandlers(uuidValidationHandler)
+            .setTarget(new DeleteDocumentTarget(documentStoreService)));
+    return collections;
+  }
+
+  @BeforeEach
+  public void setup() {
+    reset(documentStoreService);
+    when(documentStoreService.deleteAll(eq("content"), anyList()))
+        .thenAnswer(
+            invocation -> {
+              List<String> uuids = invocation.getArgument(1);
+              return uuids.stream()
+                  .map(
+                      uuid ->
+                          uuid.equals(MISSING_UUID)
+                              ? BulkItemResult.notFound(uuid)
+                              : BulkItemResult.deleted(uuid))
+                  .collect(Collectors.toList());
+            });
+    when(documentStoreService.writeAll(eq("content"), anyList()))
+        .thenAnswer(
+            invocation -> {
+              List<Map<String, Object>> contents = invocation.getArgument(1);
+              return contents.stream()
+                  .map(content -> BulkItemResult.created((String) content.get("uuid")))
+                  .collect(Collectors.toList());
+            });
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void shouldWriteValidDocumentsAndReportFailures() {
+    String first = UUID.randomUUID().toString();
+    String second = UUID.randomUUID().toString();
+    String body =
+        document(first)
+            + "\n{\"uuid\":\"not-a-uuid\"}\n"
+            + "{not json\n"
+            + "\n"
+            + document(second).replace("}", ",\"storyPackage\":\"x\"}")
+            + "\n";
+
+    List<Map<String, Object>> results = post(body);
+
+    assertThat(results.size(), equalTo(4));
+    assertThat(results.get(0).get("status"), equalTo("created"));
+    assertThat(results.get(1).get("status"), equalTo("failed"));
+    assertThat((String) results.get(1).get("message"), startsWith("invalid uuid: not-a-uuid"));
+    assertThat(results.get(2).get("status"), equalTo("failed"));
+    assertThat(results.get(2).get("message"), equalTo("invalid JSON document on line 3"));
+    assertThat(results.get(3).get("uuid"), equalTo(second));
+
+    ArgumentCaptor<List> written = ArgumentCaptor.forClass(List.class);
+    verify(documentStoreService).writeAll(eq("content"), written.capture());
+    List<Map<String, Object>> documents = written.getValue();
+    assertThat(
+        documents.stream().map(d -> d.get("uuid")).collect(Collectors.toList()),
+        contains(first, second));
+    assertThat(documents.get(1), not(hasKey("storyPackage")));
+  }
+
+  @Test
+  public void shouldNotPutTheSameUuidTwiceInOneBatch() {
+    String uuid = UUID.randomUUID().toString();
+
+    List<Map<String, Object>> results = post(document(uuid) + "\n" + document(uuid) + "\n");
+
+    assertThat(results.size(), equalTo(2));
+    verify(documentStoreService, times(2)).writeAll(eq("content"), anyList());
+  }
+
+  @Test
+  public void shouldReturn400ForUnknownCollection() {
+    Response response =
+        resources
+            .client()
+            .target("/unknown/__bulk")
+            .request()
+            .post(Entity.entity("", DocumentBulkResource.APPLICATION_NDJSON));
+
+    assertThat(response.getStatus(), equalTo(400));
+  }
+
+  @Test
+  public void shouldDeleteValidUuidsAndReportMissingOnes() {
+    String uuid = UUID.randomUUID().toString();
+
+    List<Map<String, Object>> results =
+        post("/content/__bulk-delete", uuid + "\nnot-a-uuid\n\"" + MISSING_UUID + "\"\n");
+
+    assertThat(results.size(), equalTo(3));
+    assertThat(results.get(0).get("status"), equalTo("deleted"));
+    assertThat(results.get(1).get("status"), equalTo("failed"));
+    assertThat(results.get(2).get("uuid"), equalTo(MISSING_UUID));
+    assertThat(results.get(2).get("status"), equalTo("not_found"));
+    verify(documentStoreService).deleteAll("content", Arrays.asList(uuid, MISSING_UUID));
+  }
+
+  private List<Map<String, Object>> post(String body) {
+    return post(BULK_PATH, body);
+  }
+
+  private List<Map<String, Object>> post(String path, String body) {
+    Response response =
+        resources
+            .client()
+            .target(path)
+            .request()
+            .post(Entity.entity(body, DocumentBulkResource.APPLICATION_NDJSON));
+    assertThat(response.getStatus(), equalTo(200));
+    assertThat(
+        response.getMediaType().toString(), startsWith(DocumentBulkResource.APPLICATION_NDJSON));
+    String lines = response.readEntity(String.class);
+    assertThat(lines, endsWith("\n"));
+    List<Map<String, Object>> results = new ArrayList<>();
+    for (String line : lines.split("\n")) {
+      results.add(readResult(line));
+    }
+    return results;
+  }
+
+  private static Map<String, Object> readResult(String line) {
+    try {
+      return OBJECT_MAPPER.readValue(line, new TypeReference<Map<String, Object>>() {});
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static String document(String uuid) {
+    return "{\"uuid\":\"" + uuid + "\",\"type\":\"Article\"}";
+  }
+}
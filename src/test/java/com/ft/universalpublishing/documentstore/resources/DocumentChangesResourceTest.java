@@ -0,0 +1,105 @@
+package com.ft.universalpublishing.documentstore.resources;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ft.universalpublishing.documentstore.handler.HandlerChain;
+import com.ft.universalpublishing.documentstore.model.read.Operation;
+import com.ft.universalpublishing.documentstore.model.read.Pair;
+import com.ft.universalpublishing.documentstore.service.ChangeFeed;
+import com.ft.universalpublishing.documentstore.service.MongoDocumentStoreService;
+import com.ft.universalpublishing.documentstore.write.ChangeEvent;
+import io.dropwizard.testing.junit5.DropwizardExtensionsSupport;
+import io.dropwizard.testing.junit5.ResourceExtension;
+import java.util.Collections;
+import java.util.function.Consumer;
+import javax.ws.rs.core.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(DropwizardExtensionsSupport.class)
+public class DocumentChangesResourceTest {
+
+  private static final String UUID = "d08ef814-f295-11e6-a94b-0e7d0412f5a5";
+
+  private static final MongoDocumentStoreService documentStoreService =
+      mock(MongoDocumentStoreService.class);
+
+  private static final ResourceExtension resources =
+      ResourceExtension.builder()
+          .addResource(
+              new DocumentChangesResource(
+                  Collections.singletonMap(
+                      new Pair<>("content", Operation.ADD), new HandlerChain()),
+                  documentStoreService,
+                  new ObjectMapper()))
+          .build();
+
+  private ChangeFeed changeFeed;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  public void setup() {
+    reset(documentStoreService);
+    changeFeed = mock(ChangeFeed.class);
+    when(documentStoreService.watchChanges("content", "abc")).thenReturn(changeFeed);
+    doAnswer(
+            invocation -> {
+              Consumer<ChangeEvent> events = invocation.getArgument(1);
+              events.accept(
+                  new ChangeEvent(
+                      ChangeEvent.Type.CREATED, UUID, "5f1d", "2020-01-01T00:00:00Z", "t1"));
+              events.accept(ChangeEvent.checkpoint("t2"));
+              return null;
+            })
+        .when(changeFeed)
+        .forEach(eq(5000L), any(Consumer.class));
+  }
+
+  @Test
+  public void shouldStreamEventsAsNdjsonAndCloseTheFeed() {
+    Response response =
+        resources
+            .client()
+            .target("/content/__changes")
+            .queryParam("since", "abc")
+            .queryParam("wait", 5)
+            .request()
+            .get();
+
+    assertThat(response.getStatus(), equalTo(200));
+    assertThat(
+        response.readEntity(String.class),
+        equalTo(
+            "{\"type\":\"created\",\"uuid\":\""
+                + UUID
+                + "\",\"id\":\"5f1d\",\"clusterTime\":\"2020-01-01T00:00:00Z\","
+                + "\"resumeToken\":\"t1\"}\n"
+                + "{\"type\":\"checkpoint\",\"resumeToken\":\"t2\"}\n"));
+    verify(changeFeed).close();
+  }
+
+  @Test
+  public void shouldReturn400ForWaitOutOfRange() {
+    Response response =
+        resources.client().target("/content/__changes").queryParam("wait", 31).request().get();
+
+    assertThat(response.getStatus(), equalTo(400));
+  }
+
+  @Test
+  public void shouldReturn400ForUnknownCollection() {
+    Response response = resources.client().target("/unknown/__changes").request().get();
+
+    assertThat(response.getStatus(), equalTo(400));
+  }
+}
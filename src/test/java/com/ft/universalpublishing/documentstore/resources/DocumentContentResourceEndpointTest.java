@@ -1,24 +1,29 @@
 package com.ft.universalpublishing.documentstore.resources;
 
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasProperty;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyMapOf;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ft.api.jaxrs.errors.ErrorEntity;
 import com.ft.universalpublishing.documentstore.exception.DocumentNotFoundException;
 import com.ft.universalpublishing.documentstore.exception.ExternalSystemUnavailableException;
 import com.ft.universalpublishing.documentstore.exception.ValidationException;
+import com.ft.universalpublishing.documentstore.handler.ExtractFieldsHandler;
 import com.ft.universalpublishing.documentstore.handler.ExtractUuidsHandler;
 import com.ft.universalpublishing.documentstore.handler.Handler;
 import com.ft.universalpublishing.documentstore.handler.HandlerChain;
@@ -27,33 +32,35 @@ import com.ft.universalpublishing.documentstore.handler.PreSaveFieldRemovalHandl
 import com.ft.universalpublishing.documentstore.handler.UuidValidationHandler;
 import com.ft.universalpublishing.documentstore.model.read.Operation;
 import com.ft.universalpublishing.documentstore.model.read.Pair;
+import com.ft.universalpublishing.documentstore.service.BsonJsonTranscoder;
 import com.ft.universalpublishing.documentstore.service.MongoDocumentStoreService;
 import com.ft.universalpublishing.documentstore.target.DeleteDocumentTarget;
-import com.ft.universalpublishing.documentstore.target.FindMultipleResourcesByUuidsTarget;
-import com.ft.universalpublishing.documentstore.target.FindResourceByUuidTarget;
+import com.ft.universalpublishing.documentstore.target.StreamMultipleResourcesByUuidsTarget;
+import com.ft.universalpublishing.documentstore.target.StreamResourceByUuidTarget;
 import com.ft.universalpublishing.documentstore.target.Target;
 import com.ft.universalpublishing.documentstore.target.WriteDocumentTarget;
 import com.ft.universalpublishing.documentstore.validators.ContentListValidator;
 import com.ft.universalpublishing.documentstore.validators.UuidValidator;
 import com.ft.universalpublishing.documentstore.write.DocumentWritten;
+import com.google.common.collect.ImmutableSet;
+import com.mongodb.MongoClient;
 import io.dropwizard.testing.junit5.DropwizardExtensionsSupport;
 import io.dropwizard.testing.junit5.ResourceExtension;
 import java.text.SimpleDateFormat;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -104,9 +111,12 @@ public class DocumentContentResourceEndpointTest {
     Handler multipleUuidValidationHandler = new MultipleUuidValidationHandler(uuidValidator);
     Handler extractUuidsHandlers = new ExtractUuidsHandler();
     Handler preSaveFieldRemovalHandler = new PreSaveFieldRemovalHandler();
-    Target findResourceByUuid = new FindResourceByUuidTarget(documentStoreService);
-    Target findMultipleResourcesByUuidsTarget =
-        new FindMultipleResourcesByUuidsTarget(documentStoreService);
+    Handler extractFieldsHandler = new ExtractFieldsHandler(ImmutableSet.of("uuid", "title"));
+    BsonJsonTranscoder transcoder =
+        new BsonJsonTranscoder(new ObjectMapper(), MongoClient.getDefaultCodecRegistry());
+    Target streamResourceByUuid = new StreamResourceByUuidTarget(documentStoreService, transcoder);
+    Target streamMultipleResourcesByUuids =
+        new StreamMultipleResourcesByUuidsTarget(documentStoreService, transcoder);
     Target writeDocument = new WriteDocumentTarget(documentStoreService);
     Target deleteDocument = new DeleteDocumentTarget(documentStoreService);
 
@@ -114,16 +124,18 @@ public class DocumentContentResourceEndpointTest {
     collections.put(
         new Pair<>("content", Operation.GET_FILTERED),
         new HandlerChain()
-            .addHandlers(extractUuidsHandlers, multipleUuidValidationHandler)
-            .setTarget(findMultipleResourcesByUuidsTarget));
+            .addHandlers(extractUuidsHandlers, multipleUuidValidationHandler, extractFieldsHandler)
+            .setTarget(streamMultipleResourcesByUuids));
     collections.put(
         new Pair<>("content", Operation.GET_MULTIPLE_FILTERED),
         new HandlerChain()
-            .addHandlers(multipleUuidValidationHandler)
-            .setTarget(findMultipleResourcesByUuidsTarget));
+            .addHandlers(multipleUuidValidationHandler, extractFieldsHandler)
+            .setTarget(streamMultipleResourcesByUuids));
     collections.put(
         new Pair<>("content", Operation.GET_BY_ID),
-        new HandlerChain().addHandlers(uuidValidationHandler).setTarget(findResourceByUuid));
+        new HandlerChain()
+            .addHandlers(uuidValidationHandler, extractFieldsHandler)
+            .setTarget(streamResourceByUuid));
     collections.put(
         new Pair<>("content", Operation.ADD),
         new HandlerChain()
@@ -261,7 +273,8 @@ public class DocumentContentResourceEndpointTest {
   // READ
   @Test
   public void shouldReturn200WhenReadSuccessfully() {
-    when(documentStoreService.findByUuid(eq(RESOURCE_TYPE), any(UUID.class))).thenReturn(document);
+    when(documentStoreService.findRawByUuid(eq(RESOURCE_TYPE), any(UUID.class), isNull()))
+        .thenReturn(raw(document));
     Response clientResponse = resources.target(contentPath).request().get();
 
     assertThat("response", clientResponse, Matchers.hasProperty("status", Matchers.equalTo(200)));
@@ -274,21 +287,15 @@ public class DocumentContentResourceEndpointTest {
     UUID uuid1 = UUID.randomUUID();
     UUID uuid2 = UUID.randomUUID();
 
-    Set<UUID> uuids = new LinkedHashSet<>();
-    uuids.add(uuid1);
-    uuids.add(uuid2);
-
     String id1 = uuid1.toString();
     Document document1 = getContent(id1);
 
     String id2 = uuid2.toString();
     Document document2 = getContent(id2);
 
-    List<Document> documents = new ArrayList<>();
-    documents.add(document1);
-    documents.add(document2);
-
-    when(documentStoreService.findByUuids(eq(RESOURCE_TYPE), eq(uuids))).thenReturn(documents);
+    when(documentStoreService.findRawByUuids(
+            eq(RESOURCE_TYPE), eq(Arrays.asList(id1, id2)), isNull()))
+        .thenReturn(found(document1, document2));
 
     Response clientResponse =
         resources
@@ -326,12 +333,9 @@ public class DocumentContentResourceEndpointTest {
     String id2 = uuid2.toString();
     Document document2 = getContent(id2);
 
-    Set<UUID> uuids = new LinkedHashSet<>();
-    uuids.add(uuid1);
-    uuids.add(uuid2);
-
-    when(documentStoreService.findByUuids(eq(RESOURCE_TYPE), eq(uuids)))
-        .thenReturn(Collections.singletonList(document2));
+    when(documentStoreService.findRawByUuids(
+            eq(RESOURCE_TYPE), eq(Arrays.asList(id1, id2)), isNull()))
+        .thenReturn(found(document2));
 
     Response clientResponse =
         resources
@@ -357,8 +361,8 @@ public class DocumentContentResourceEndpointTest {
   public void thatReturns200EvenIfNoUUIDsAreFound() {
     UUID uuid1 = UUID.randomUUID();
     String id1 = uuid1.toString();
-    when(documentStoreService.findByUuid(eq(RESOURCE_TYPE), any(UUID.class)))
-        .thenThrow(new DocumentNotFoundException(null));
+    when(documentStoreService.findRawByUuids(eq(RESOURCE_TYPE), anyList(), isNull()))
+        .thenReturn(Collections.emptyMap());
 
     UUID uuid2 = UUID.randomUUID();
     String id2 = uuid2.toString();
@@ -383,16 +387,14 @@ public class DocumentContentResourceEndpointTest {
     UUID uuid1 = UUID.randomUUID();
     UUID uuid2 = UUID.randomUUID();
     List<UUID> uuidList = Arrays.asList(uuid1, uuid2);
-    Set<UUID> uuidSet = new LinkedHashSet<>();
-    uuidSet.add(uuid1);
-    uuidSet.add(uuid2);
     String uuidString1 = uuid1.toString();
     Document document1 = getContent(uuidString1);
     String uuidString2 = uuid2.toString();
     Document document2 = getContent(uuidString2);
-    List<Document> documents = Arrays.asList(document1, document2);
 
-    when(documentStoreService.findByUuids(eq(RESOURCE_TYPE), eq(uuidSet))).thenReturn(documents);
+    when(documentStoreService.findRawByUuids(
+            eq(RESOURCE_TYPE), eq(Arrays.asList(uuidString1, uuidString2)), isNull()))
+        .thenReturn(found(document1, document2));
 
     Response clientResponse =
         resources
@@ -431,12 +433,10 @@ public class DocumentContentResourceEndpointTest {
     List<UUID> uuidList = Arrays.asList(uuid1, uuid2);
     String id2 = uuid2.toString();
     Document document = getContent(id2);
-    Set<UUID> uuidSet = new LinkedHashSet<>();
-    uuidSet.add(uuid1);
-    uuidSet.add(uuid2);
 
-    when(documentStoreService.findByUuids(eq(RESOURCE_TYPE), eq(uuidSet)))
-        .thenReturn(Arrays.asList(document));
+    when(documentStoreService.findRawByUuids(
+            eq(RESOURCE_TYPE), eq(Arrays.asList(uuid1.toString(), id2)), isNull()))
+        .thenReturn(found(document));
 
     Response clientResponse =
         resources
@@ -502,7 +502,7 @@ public class DocumentContentResourceEndpointTest {
 
   @Test
   public void shouldReturn404WhenContentNotFound() {
-    when(documentStoreService.findByUuid(eq(RESOURCE_TYPE), any(UUID.class)))
+    when(documentStoreService.findRawByUuid(eq(RESOURCE_TYPE), any(UUID.class), isNull()))
         .thenThrow(new DocumentNotFoundException(UUID.fromString(uuid)));
 
     Response clientResponse = resources.target(contentPath).request().get(Response.class);
@@ -526,13 +526,38 @@ public class DocumentContentResourceEndpointTest {
   public void shouldReturn503OnReadWhenMongoIsntReachable() {
     doThrow(new ExternalSystemUnavailableException("Cannot connect to Mongo"))
         .when(documentStoreService)
-        .findByUuid(eq(RESOURCE_TYPE), any(UUID.class));
+        .findRawByUuid(eq(RESOURCE_TYPE), any(UUID.class), isNull());
 
     Response clientResponse = resources.target(contentPath).request().get(Response.class);
 
     assertThat("response", clientResponse, hasProperty("status", equalTo(503)));
   }
 
+  @Test
+  public void shouldReadOnlyRequestedFields() {
+    when(documentStoreService.findRawByUuid(
+            eq(RESOURCE_TYPE), any(UUID.class), eq(Collections.singleton("title"))))
+        .thenReturn(raw(new Document("uuid", uuid).append("title", document.get("title"))));
+
+    Response clientResponse =
+        resources.target(contentPath).queryParam("fields", "title").request().get();
+
+    assertThat("response", clientResponse, hasProperty("status", equalTo(200)));
+    final Document retrievedDocument = clientResponse.readEntity(Document.class);
+    assertThat("fields", retrievedDocument.keySet(), containsInAnyOrder("uuid", "title"));
+  }
+
+  @Test
+  public void shouldReturn503OnMultipleReadWhenMongoIsntReachable() {
+    when(documentStoreService.findRawByUuids(eq(RESOURCE_TYPE), anyList(), isNull()))
+        .thenThrow(new ExternalSystemUnavailableException("Cannot connect to Mongo"));
+
+    Response clientResponse =
+        resources.target("/content").queryParam("uuid", uuid).request().get();
+
+    assertThat("response", clientResponse, hasProperty("status", equalTo(503)));
+  }
+
   // OTHER
   @Test
   public void shouldReturn405ForPost() {
@@ -548,6 +573,18 @@ public class DocumentContentResourceEndpointTest {
         .put(Entity.entity(document, MediaType.APPLICATION_JSON));
   }
 
+  private static RawBsonDocument raw(Document document) {
+    return new RawBsonDocument(document, new DocumentCodec());
+  }
+
+  private static Map<String, RawBsonDocument> found(Document... documents) {
+    Map<String, RawBsonDocument> found = new HashMap<>();
+    for (Document document : documents) {
+      found.put(document.getString("uuid"), raw(document));
+    }
+    return found;
+  }
+
   private void validateErrorMessage(String expectedErrorMessage, Response clientResponse) {
     final ErrorEntity responseBodyMessage = clientResponse.readEntity(ErrorEntity.class);
     assertThat(
@@ -8,8 +8,10 @@ import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.*;
 
+import com.codahale.metrics.Meter;
 import com.ft.universalpublishing.documentstore.exception.IDStreamingException;
 import com.ft.universalpublishing.documentstore.service.MongoDocumentStoreService;
+import com.ft.universalpublishing.documentstore.service.UuidRange;
 import io.dropwizard.testing.junit5.DropwizardExtensionsSupport;
 import io.dropwizard.testing.junit5.ResourceExtension;
 import java.io.IOException;
@@ -39,13 +41,18 @@ public class DocumentIDResourceTest {
     doAnswer(
             invocationOnMock -> {
               Object[] args = invocationOnMock.getArguments();
-              OutputStream outputStream1 = (OutputStream) args[2];
+              OutputStream outputStream1 = (OutputStream) args[3];
               outputStream1.write((new Document("uuid", firstUUID).toJson() + "\n").getBytes());
               outputStream1.write((new Document("uuid", secondUUID).toJson() + "\n").getBytes());
               return null;
             })
         .when(documentStoreService)
-        .findUUIDs(eq(RESOURCE_TYPE), eq(Boolean.FALSE), any(OutputStream.class));
+        .findUUIDs(
+            eq(RESOURCE_TYPE),
+            eq(Boolean.FALSE),
+            isNull(),
+            any(OutputStream.class),
+            any(Meter.class));
     Response clientResponse = resources.client().target(IDS_PATH).request().get();
 
     assertThat("response", clientResponse, hasProperty("status", equalTo(200)));
@@ -59,8 +66,56 @@ public class DocumentIDResourceTest {
   public void shouldReturn500WhenGettingIdsFails() throws IOException {
     doThrow(new IDStreamingException(RESOURCE_TYPE))
         .when(documentStoreService)
-        .findUUIDs(eq(RESOURCE_TYPE), eq(Boolean.FALSE), any(OutputStream.class));
+        .findUUIDs(
+            eq(RESOURCE_TYPE),
+            eq(Boolean.FALSE),
+            isNull(),
+            any(OutputStream.class),
+            any(Meter.class));
     Response clientResponse = resources.client().target(IDS_PATH).request().get();
     assertThat("response", clientResponse, hasProperty("status", equalTo(500)));
   }
+
+  @Test
+  public void shouldExportPartitionResumingAfterUuid() {
+    final String after = "8ae3f1dc-f288-11e6-8758-6876151821a6";
+    Response clientResponse =
+        resources
+            .client()
+            .target(IDS_PATH)
+            .queryParam("partition", 2)
+            .queryParam("of", 4)
+            .queryParam("after", after)
+            .request()
+            .get();
+
+    assertThat("response", clientResponse, hasProperty("status", equalTo(200)));
+    verify(documentStoreService)
+        .findUUIDs(
+            eq(RESOURCE_TYPE),
+            eq(Boolean.FALSE),
+            eq(UuidRange.partition(2, 4).after(after)),
+            any(OutputStream.class),
+            any(Meter.class));
+  }
+
+  @Test
+  public void shouldReturn400ForInvalidPartition() {
+    Response clientResponse =
+        resources
+            .client()
+            .target(IDS_PATH)
+            .queryParam("partition", 4)
+            .queryParam("of", 4)
+            .request()
+            .get();
+    assertThat("response", clientResponse, hasProperty("status", equalTo(400)));
+  }
+
+  @Test
+  public void shouldReturn400ForInvalidResumeToken() {
+    Response clientResponse =
+        resources.client().target(IDS_PATH).queryParam("after", "nope").request().get();
+    assertThat("response", clientResponse, hasProperty("status", equalTo(400)));
+  }
 }
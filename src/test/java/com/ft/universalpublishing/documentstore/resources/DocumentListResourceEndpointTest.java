@@ -2,6 +2,7 @@ package com.ft.universalpublishing.documentstore.resources;
 
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasProperty;
+import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.Assert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMapOf;
@@ -36,6 +37,7 @@ import com.ft.universalpublishing.documentstore.model.read.Identifier;
 import com.ft.universalpublishing.documentstore.model.read.ListItem;
 import com.ft.universalpublishing.documentstore.model.read.Operation;
 import com.ft.universalpublishing.documentstore.model.read.Pair;
+import com.ft.universalpublishing.documentstore.service.DocumentVersion;
 import com.ft.universalpublishing.documentstore.service.MongoDocumentStoreService;
 import com.ft.universalpublishing.documentstore.service.PublicConceptsApiService;
 import com.ft.universalpublishing.documentstore.service.PublicConcordancesApiService;
@@ -56,9 +58,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import javax.ws.rs.client.Entity;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -111,7 +117,8 @@ public class DocumentListResourceEndpointTest {
   private static Map<Pair<String, Operation>, HandlerChain> getCollectionMap() {
     Handler uuidValidationHandler = new UuidValidationHandler(uuidValidator);
     Handler extractConceptHandler = new ExtractConceptHandler();
-    Handler contentListValidationHandler = new ContentListValidationHandler(contentListValidator);
+    Handler contentListValidationHandler =
+        new ContentListValidationHandler(contentListValidator, objectMapper);
     Handler findListByUuidHandler = new FindListByUuidHandler(documentStoreService);
     Handler findListByConceptAndTypeHandler =
         new FindListByConceptAndTypeHandler(documentStoreService);
@@ -120,7 +127,8 @@ public class DocumentListResourceEndpointTest {
     Target writeDocument = new WriteDocumentTarget(documentStoreService);
     Target deleteDocument = new DeleteDocumentTarget(documentStoreService);
     Target applyConcordedConceptToList =
-        new ApplyConcordedConceptToListTarget(publicConceptsApiService, API_URL_PREFIX_CONTENT);
+        new ApplyConcordedConceptToListTarget(
+            publicConceptsApiService, API_URL_PREFIX_CONTENT, objectMapper);
     final Map<Pair<String, Operation>, HandlerChain> collections = new HashMap<>();
     collections.put(
         new Pair<>("lists", Operation.GET_BY_ID),
@@ -311,14 +319,14 @@ public class DocumentListResourceEndpointTest {
 
     when(publicConceptsApiService.getUpToDateConcept(eq(concept.getUuid().toString())))
         .thenReturn(resultConcept);
-    when(documentStoreService.findByUuid(eq(RESOURCE_TYPE), any(UUID.class)))
-        .thenReturn(listAsDocument);
+    stubStoredList(listAsDocument);
     Response clientResponse = resources.client().target(uuidPath).request().get();
 
     assertThat("response", clientResponse, hasProperty("status", equalTo(200)));
+    assertThat(clientResponse.getEntityTag(), notNullValue());
     final ContentList retrievedDocument = clientResponse.readEntity(ContentList.class);
     verify(publicConceptsApiService).getUpToDateConcept(eq(concept.getUuid().toString()));
-    verify(documentStoreService).findByUuid(eq(RESOURCE_TYPE), any(UUID.class));
+    verify(documentStoreService).findRawByUuid(eq(RESOURCE_TYPE), any(UUID.class));
     assertThat("inboundListAsDocument", retrievedDocument, equalTo(outboundList));
   }
 
@@ -326,20 +334,37 @@ public class DocumentListResourceEndpointTest {
   public void shouldReturnListWithoutConceptWhenReadSuccessfully()
       throws JsonMappingException, JsonProcessingException {
     when(publicConceptsApiService.getUpToDateConcept(eq(null))).thenReturn(null);
-    when(documentStoreService.findByUuid(eq(RESOURCE_TYPE), any(UUID.class)))
-        .thenReturn(listWithoutConceptAsDocument);
+    stubStoredList(listWithoutConceptAsDocument);
     Response clientResponse = resources.client().target(uuidPath).request().get();
 
     assertThat("response", clientResponse, hasProperty("status", equalTo(200)));
     final ContentList retrievedDocument = clientResponse.readEntity(ContentList.class);
     verify(publicConceptsApiService).getUpToDateConcept(eq(null));
-    verify(documentStoreService).findByUuid(eq(RESOURCE_TYPE), any(UUID.class));
+    verify(documentStoreService).findRawByUuid(eq(RESOURCE_TYPE), any(UUID.class));
     assertThat("inboundListAsDocument", retrievedDocument, equalTo(outboundListWithoutConcept));
   }
 
+  @Test
+  public void shouldReturn304WhenListIsUnchanged() {
+    when(publicConceptsApiService.getUpToDateConcept(eq(null))).thenReturn(null);
+    stubStoredList(listWithoutConceptAsDocument);
+    EntityTag entityTag = resources.client().target(uuidPath).request().get().getEntityTag();
+
+    Response clientResponse =
+        resources
+            .client()
+            .target(uuidPath)
+            .request()
+            .header(HttpHeaders.IF_NONE_MATCH, entityTag.toString())
+            .get();
+
+    assertThat("response", clientResponse, hasProperty("status", equalTo(304)));
+    assertThat(clientResponse.getEntityTag(), equalTo(entityTag));
+  }
+
   @Test
   public void shouldReturn404WhenContentNotFound() {
-    when(documentStoreService.findByUuid(eq(RESOURCE_TYPE), any(UUID.class)))
+    when(documentStoreService.findRawByUuid(eq(RESOURCE_TYPE), any(UUID.class)))
         .thenThrow(new DocumentNotFoundException(UUID.fromString(uuid)));
 
     Response clientResponse = resources.client().target(uuidPath).request().get();
@@ -363,7 +388,7 @@ public class DocumentListResourceEndpointTest {
   public void shouldReturn503OnReadWhenMongoIsntReachable() {
     doThrow(new ExternalSystemUnavailableException("Cannot connect to Mongo"))
         .when(documentStoreService)
-        .findByUuid(eq(RESOURCE_TYPE), any(UUID.class));
+        .findRawByUuid(eq(RESOURCE_TYPE), any(UUID.class));
 
     Response clientResponse = resources.client().target(uuidPath).request().get();
 
@@ -490,4 +515,14 @@ public class DocumentListResourceEndpointTest {
     assertThat(
         "message", responseBodyMessage, hasProperty("message", equalTo(expectedErrorMessage)));
   }
+
+  private void stubStoredList(Document list) {
+    RawBsonDocument stored =
+        new RawBsonDocument(
+            new Document(list).append(DocumentVersion.ETAG_FIELD, "0123456789abcdef"),
+            new DocumentCodec());
+    when(documentStoreService.findRawByUuid(eq(RESOURCE_TYPE), any(UUID.class)))
+        .thenReturn(stored);
+    when(documentStoreService.decode(stored)).thenReturn(list);
+  }
 }
@@ -1,7 +1,9 @@
 package com.ft.universalpublishing.documentstore.resources;
 
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasProperty;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
@@ -29,6 +31,7 @@ import com.ft.universalpublishing.documentstore.model.read.Identifier;
 import com.ft.universalpublishing.documentstore.model.read.ListItem;
 import com.ft.universalpublishing.documentstore.model.read.Operation;
 import com.ft.universalpublishing.documentstore.model.read.Pair;
+import com.ft.universalpublishing.documentstore.service.ListPage;
 import com.ft.universalpublishing.documentstore.service.MongoDocumentStoreService;
 import com.ft.universalpublishing.documentstore.service.PublicConceptsApiService;
 import com.ft.universalpublishing.documentstore.service.PublicConcordancesApiService;
@@ -94,8 +97,9 @@ public class DocumentSearchListResourceEndpointTest {
             .map(concept -> concept.getUuid().toString())
             .collect(Collectors.toSet());
 
-    when(documentStoreService.filterLists(eq(RESOURCE_TYPE), eq(null), eq(null), eq(null)))
-        .thenReturn(documents);
+    when(documentStoreService.filterLists(
+            eq(RESOURCE_TYPE), eq(null), eq(null), eq(null), eq(null), eq(null)))
+        .thenReturn(new ListPage(documents, null));
     when(publicConceptsApiService.searchConcepts(any(String[].class)))
         .thenReturn(searchConceptsResults);
 
@@ -103,7 +107,8 @@ public class DocumentSearchListResourceEndpointTest {
 
     final ArgumentCaptor<String[]> conceptsCaptor = ArgumentCaptor.forClass(String[].class);
     verify(publicConcordancesApiService, times(0)).getUPPConcordances(anyString());
-    verify(documentStoreService).filterLists(eq(RESOURCE_TYPE), eq(null), eq(null), eq(null));
+    verify(documentStoreService)
+        .filterLists(eq(RESOURCE_TYPE), eq(null), eq(null), eq(null), eq(null), eq(null));
     verify(publicConceptsApiService).searchConcepts(conceptsCaptor.capture());
 
     final List<String> searchConceptsParam = Arrays.asList(conceptsCaptor.getValue());
@@ -136,8 +141,9 @@ public class DocumentSearchListResourceEndpointTest {
 
     final UUID[] conceptParams = new UUID[] {contentLists.get(listIndex).getConcept().getUuid()};
 
-    when(documentStoreService.filterLists(eq(RESOURCE_TYPE), eq(conceptParams), eq(null), eq(null)))
-        .thenReturn(documents);
+    when(documentStoreService.filterLists(
+            eq(RESOURCE_TYPE), eq(conceptParams), eq(null), eq(null), eq(null), eq(null)))
+        .thenReturn(new ListPage(documents, null));
     when(publicConceptsApiService.searchConcepts(any(String[].class)))
         .thenReturn(searchConceptsResults);
 
@@ -152,7 +158,8 @@ public class DocumentSearchListResourceEndpointTest {
     final ArgumentCaptor<String[]> conceptsCaptor = ArgumentCaptor.forClass(String[].class);
     verify(publicConcordancesApiService).getUPPConcordances(eq(conceptParams[0].toString()));
     verify(documentStoreService)
-        .filterLists(eq(RESOURCE_TYPE), eq(conceptParams), eq(null), eq(null));
+        .filterLists(
+            eq(RESOURCE_TYPE), eq(conceptParams), eq(null), eq(null), eq(null), eq(null));
     verify(publicConceptsApiService).searchConcepts(conceptsCaptor.capture());
 
     final List<String> searchConceptsParam = Arrays.asList(conceptsCaptor.getValue());
@@ -203,8 +210,8 @@ public class DocumentSearchListResourceEndpointTest {
 
     when(publicConcordancesApiService.getUPPConcordances(eq(conceptUUID))).thenReturn(concordances);
     when(documentStoreService.filterLists(
-            eq(RESOURCE_TYPE), eq(conceptParams), eq(listType), eq(title)))
-        .thenReturn(documents);
+            eq(RESOURCE_TYPE), eq(conceptParams), eq(listType), eq(title), eq(null), eq(null)))
+        .thenReturn(new ListPage(documents, null));
     when(publicConceptsApiService.searchConcepts(any(String[].class)))
         .thenReturn(searchConceptsResults);
 
@@ -221,7 +228,8 @@ public class DocumentSearchListResourceEndpointTest {
     final ArgumentCaptor<String[]> conceptsCaptor = ArgumentCaptor.forClass(String[].class);
     verify(publicConcordancesApiService).getUPPConcordances(eq(conceptUUID));
     verify(documentStoreService)
-        .filterLists(eq(RESOURCE_TYPE), eq(conceptParams), eq(listType), eq(title));
+        .filterLists(
+            eq(RESOURCE_TYPE), eq(conceptParams), eq(listType), eq(title), eq(null), eq(null));
     verify(publicConceptsApiService).searchConcepts(conceptsCaptor.capture());
 
     final List<String> searchConceptsParam = Arrays.asList(conceptsCaptor.getValue());
@@ -240,6 +248,49 @@ public class DocumentSearchListResourceEndpointTest {
     assertThat(retrievedLists.size(), equalTo(2));
   }
 
+  @Test
+  public void shouldLinkToTheNextPage() throws JsonMappingException, JsonProcessingException {
+    final List<ContentList> contentLists = createContentList(2);
+    final List<Document> documents = convertToDocuments(contentLists);
+
+    when(documentStoreService.filterLists(
+            eq(RESOURCE_TYPE), eq(null), eq("TopStories"), eq(null), eq(2), eq("page1")))
+        .thenReturn(new ListPage(documents, "page2"));
+    when(publicConceptsApiService.searchConcepts(any(String[].class)))
+        .thenReturn(createClonedConceptsListFromContentList(contentLists));
+
+    final Response clientResponse =
+        resources
+            .client()
+            .target("/search/lists")
+            .queryParam("listType", "TopStories")
+            .queryParam("limit", 2)
+            .queryParam("after", "page1")
+            .request()
+            .get();
+
+    assertThat("response", clientResponse, hasProperty("status", equalTo(200)));
+    assertThat(clientResponse.readEntity(ContentList[].class).length, equalTo(2));
+    final URI next = clientResponse.getLink("next").getUri();
+    assertThat(next.getPath(), equalTo("/search/lists"));
+    assertThat(
+        Arrays.asList(next.getQuery().split("&")),
+        containsInAnyOrder("listType=TopStories", "limit=2", "after=page2"));
+  }
+
+  @Test
+  public void shouldNotLinkPastTheLastPage() throws JsonMappingException, JsonProcessingException {
+    when(documentStoreService.filterLists(
+            eq(RESOURCE_TYPE), eq(null), eq(null), eq(null), eq(2), eq(null)))
+        .thenReturn(new ListPage(new ArrayList<>(), null));
+
+    final Response clientResponse =
+        resources.client().target("/search/lists").queryParam("limit", 2).request().get();
+
+    assertThat("response", clientResponse, hasProperty("status", equalTo(200)));
+    assertThat(clientResponse.getLink("next"), nullValue());
+  }
+
   @Test
   public void shouldReturn400ForInvalidConceptUUID()
       throws JsonMappingException, JsonProcessingException {
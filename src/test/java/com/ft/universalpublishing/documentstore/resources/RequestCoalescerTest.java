@@ -0,0 +1,201 @@
+package com.ft.universalpublishing.documentstore.resources;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.codahale.metrics.MetricRegistry;
+import com.ft.universalpublishing.documentstore.exception.DocumentNotFoundException;
+import com.ft.universalpublishing.documentstore.model.read.Context;
+import com.ft.universalpublishing.documentstore.model.read.Operation;
+import com.ft.universalpublishing.documentstore.target.RawDocumentOutput;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import javax.ws.rs.core.UriInfo;
+import org.bson.RawBsonDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class RequestCoalescerTest {
+
+  private static final RequestCoalescer.Key KEY =
+      RequestCoalescer.Key.of(Operation.GET_BY_ID, context("fields", "title"));
+
+  private MetricRegistry metrics;
+  private RequestCoalescer coalescer;
+  private AtomicInteger executions;
+  private CompletableFuture<Object> execution;
+
+  @BeforeEach
+  public void setUp() {
+    metrics = new MetricRegistry();
+    coalescer = new RequestCoalescer(metrics);
+    executions = new AtomicInteger();
+    execution = new CompletableFuture<>();
+  }
+
+  @Test
+  public void testConcurrentIdenticalReadsShareOneExecution() throws Exception {
+    FutureTask<Object> first = start();
+    FutureTask<Object> second = start();
+
+    execution.complete("result");
+
+    assertThat(first.get(5, TimeUnit.SECONDS), equalTo("result"));
+    assertThat(second.get(5, TimeUnit.SECONDS), equalTo("result"));
+    assertThat(executions.get(), equalTo(1));
+    assertThat(coalescer.inFlight(), equalTo(0));
+    assertThat(
+        metrics.meter(MetricRegistry.name(RequestCoalescer.class, "coalesced")).getCount(),
+        equalTo(1L));
+  }
+
+  @Test
+  public void testCompletedExecutionIsNotReused() {
+    execution.complete("result");
+
+    coalescer.execute(KEY, this::runExecution);
+    coalescer.execute(KEY, this::runExecution);
+
+    assertThat(executions.get(), equalTo(2));
+  }
+
+  @Test
+  public void testEachCallerGetsItsOwnResponse() throws Exception {
+    FutureTask<Object> first = start();
+    FutureTask<Object> second = start();
+
+    execution.complete(Response.ok("entity").tag("etag").build());
+
+    Response firstResponse = (Response) first.get(5, TimeUnit.SECONDS);
+    Response secondResponse = (Response) second.get(5, TimeUnit.SECONDS);
+    assertThat(firstResponse, not(sameInstance(secondResponse)));
+    assertThat(secondResponse.getStatus(), equalTo(200));
+    assertThat(secondResponse.getEntityTag(), equalTo(firstResponse.getEntityTag()));
+  }
+
+  @Test
+  public void testStreamedResultsAreNotShared() throws Exception {
+    FutureTask<Object> first = start();
+    FutureTask<Object> second = start();
+
+    execution.complete(Response.ok((StreamingOutput) outputStream -> {}).build());
+
+    assertThat(((Response) second.get(5, TimeUnit.SECONDS)).getStatus(), equalTo(200));
+    assertThat(first.get(5, TimeUnit.SECONDS), not(sameInstance(second.get())));
+    assertThat(executions.get(), equalTo(2));
+  }
+
+  @Test
+  public void testDocumentsAlreadyReadAreShared() throws Exception {
+    FutureTask<Object> first = start();
+    FutureTask<Object> second = start();
+    RawDocumentOutput output = new RawDocumentOutput(RawBsonDocument.parse("{}"), null);
+
+    execution.complete(Response.ok(output).build());
+
+    assertThat(((Response) first.get(5, TimeUnit.SECONDS)).getEntity(), sameInstance(output));
+    assertThat(((Response) second.get(5, TimeUnit.SECONDS)).getEntity(), sameInstance(output));
+    assertThat(executions.get(), equalTo(1));
+  }
+
+  @Test
+  public void testJoinedCallersGetTheOriginalException() throws Exception {
+    FutureTask<Object> first = start();
+    FutureTask<Object> second = start();
+    DocumentNotFoundException notFound = new DocumentNotFoundException(UUID.randomUUID());
+
+    execution.completeExceptionally(notFound);
+
+    assertThat(failure(first), sameInstance(notFound));
+    assertThat(failure(second), sameInstance(notFound));
+    assertThat(executions.get(), equalTo(1));
+  }
+
+  @Test
+  public void testExceptionsHoldingOneResponseAreNotShared() throws Exception {
+    FutureTask<Object> first = start();
+    FutureTask<Object> second = start();
+
+    execution.completeExceptionally(new WebApplicationException(Response.status(400).build()));
+
+    failure(first);
+    assertThat(failure(second), instanceOf(WebApplicationException.class));
+    assertThat(executions.get(), equalTo(2));
+  }
+
+  @Test
+  public void testKeyIgnoresQueryParameterOrder() {
+    RequestCoalescer.Key reordered =
+        RequestCoalescer.Key.of(Operation.GET_BY_ID, context("a", "b", "fields", "title"));
+
+    assertThat(
+        RequestCoalescer.Key.of(Operation.GET_BY_ID, context("fields", "title", "a", "b")),
+        equalTo(reordered));
+    assertThat(
+        RequestCoalescer.Key.of(Operation.GET_FILTERED, context("fields", "title")),
+        not(equalTo(KEY)));
+  }
+
+  // starts a read on its own thread and returns once it is waiting, on the execution or on the
+  // read it joined
+  private FutureTask<Object> start() throws InterruptedException {
+    FutureTask<Object> read = new FutureTask<>(() -> coalescer.execute(KEY, this::runExecution));
+    Thread thread = new Thread(read);
+    thread.start();
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (thread.getState() != Thread.State.WAITING) {
+      if (System.nanoTime() > deadline) {
+        throw new AssertionError("read did not wait: " + thread.getState());
+      }
+      Thread.sleep(1);
+    }
+    return read;
+  }
+
+  private Object runExecution() {
+    executions.incrementAndGet();
+    try {
+      return execution.join();
+    } catch (CompletionException e) {
+      throw (RuntimeException) e.getCause();
+    }
+  }
+
+  private static Throwable failure(FutureTask<Object> read) throws Exception {
+    try {
+      read.get(5, TimeUnit.SECONDS);
+    } catch (ExecutionException e) {
+      return e.getCause();
+    }
+    throw new AssertionError("expected a failure");
+  }
+
+  private static Context context(String... parameters) {
+    MultivaluedMap<String, String> queryParameters = new MultivaluedHashMap<>();
+    for (int i = 0; i < parameters.length; i += 2) {
+      queryParameters.add(parameters[i], parameters[i + 1]);
+    }
+    UriInfo uriInfo = mock(UriInfo.class);
+    when(uriInfo.getQueryParameters()).thenReturn(queryParameters);
+    Context context = new Context();
+    context.setCollection("content");
+    context.setUuids("6c2e7bd1-5b42-4b4a-9d7e-5a1e3c0e4a11");
+    context.setUriInfo(uriInfo);
+    return context;
+  }
+}
@@ -0,0 +1,67 @@
+package com.ft.universalpublishing.documentstore.service;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.MongoClient;
+import io.dropwizard.jackson.Jackson;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.UUID;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+public class BsonJsonTranscoderTest {
+
+  private final ObjectMapper objectMapper = Jackson.newObjectMapper();
+  private final BsonJsonTranscoder transcoder =
+      new BsonJsonTranscoder(objectMapper, MongoClient.getDefaultCodecRegistry());
+
+  @Test
+  public void shouldWriteTheSameJsonAsTheDecodedDocument() throws IOException {
+    Document document =
+        new Document("uuid", UUID.randomUUID().toString())
+            .append("title", "Here's the \"news\" \u00e9")
+            .append("bodyXML", "<body><p>xmlBody</p></body>")
+            .append("wordCount", 1234)
+            .append("size", 9_000_000_000L)
+            .append("score", 0.75)
+            .append("standout", true)
+            .append("webUrl", null)
+            .append("publishedDate", new Date())
+            .append("brands", Arrays.asList("a", 1, new Document("id", "b")))
+            .append("alternativeTitles", new Document("promotionalTitle", "Promo"))
+            .append("emptyArray", Arrays.asList())
+            .append("objectId", new ObjectId());
+
+    RawBsonDocument raw = new RawBsonDocument(document, new DocumentCodec());
+    Document decoded = raw.decode(MongoClient.getDefaultCodecRegistry().get(Document.class));
+
+    assertThat(transcode(raw), equalTo(objectMapper.writeValueAsString(decoded)));
+  }
+
+  @Test
+  public void shouldWriteValidJsonForNestedDocuments() throws IOException {
+    Document document =
+        new Document("a", new Document("b", new Document("c", Arrays.asList(Arrays.asList(1, 2)))));
+
+    JsonNode json =
+        objectMapper.readTree(transcode(new RawBsonDocument(document, new DocumentCodec())));
+
+    assertThat(json.at("/a/b/c/0/1").asInt(), equalTo(2));
+  }
+
+  private String transcode(RawBsonDocument document) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    transcoder.write(document, out);
+    return new String(out.toByteArray(), StandardCharsets.UTF_8);
+  }
+}
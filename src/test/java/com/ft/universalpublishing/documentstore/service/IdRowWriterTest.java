@@ -0,0 +1,56 @@
+package com.ft.universalpublishing.documentstore.service;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+
+public class IdRowWriterTest {
+
+  private static final String UUID = "d08ef814-f295-11e6-a94b-0e7d0412f5a5";
+
+  @Test
+  public void shouldMatchToJsonForUuidOnlyRows() throws IOException {
+    assertMatchesToJson(new Document("uuid", UUID));
+  }
+
+  @Test
+  public void shouldMatchToJsonForSingleAuthority() throws IOException {
+    assertMatchesToJson(
+        new Document("uuid", UUID)
+            .append(
+                "identifiers",
+                new Document("authority", "http://api.ft.com/system/FTCOM-METHODE")));
+  }
+
+  @Test
+  public void shouldMatchToJsonForAuthorityLists() throws IOException {
+    assertMatchesToJson(
+        new Document("uuid", UUID)
+            .append(
+                "identifiers",
+                Arrays.asList(
+                    new Document("authority", "http://api.ft.com/system/FTCOM-METHODE"),
+                    new Document("authority", "http://api.ft.com/system/FT-LABS-WP-1-335"))));
+    assertMatchesToJson(
+        new Document("uuid", UUID).append("identifiers", Collections.emptyList()));
+  }
+
+  @Test
+  public void shouldFallBackToToJsonForOtherValues() throws IOException {
+    assertMatchesToJson(new Document("uuid", "quote\"and\\slash\u00e9"));
+    assertMatchesToJson(new Document("uuid", UUID).append("identifiers", new Date(0)));
+  }
+
+  private static void assertMatchesToJson(Document row) throws IOException {
+    StringWriter writer = new StringWriter();
+    IdRowWriter.write(row, writer);
+    assertThat(writer.toString(), equalTo(row.toJson() + "\n"));
+  }
+}
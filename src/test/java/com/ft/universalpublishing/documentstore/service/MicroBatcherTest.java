@@ -0,0 +1,122 @@
+package com.ft.universalpublishing.documentstore.service;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.codahale.metrics.MetricRegistry;
+import com.ft.universalpublishing.documentstore.BatchingConfig;
+import io.dropwizard.util.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class MicroBatcherTest {
+
+  private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+  private final List<Set<String>> batches = new CopyOnWriteArrayList<>();
+
+  private BatchingConfig config;
+
+  @BeforeEach
+  public void setup() {
+    config = new BatchingConfig();
+    config.setMaxBatchSize(3);
+    config.setMaxDelay(Duration.milliseconds(20));
+  }
+
+  @AfterEach
+  public void tearDown() {
+    scheduler.shutdownNow();
+  }
+
+  @Test
+  public void shouldLoadAFullBatchOnTheThreadThatFilledIt() {
+    MicroBatcher<String, String> batcher = batcher(this::upperCase);
+
+    CompletableFuture<String> a = batcher.get("a");
+    CompletableFuture<String> b = batcher.get("b");
+    CompletableFuture<String> c = batcher.get("c");
+
+    assertThat(c.isDone(), is(true));
+    assertThat(batches.size(), is(1));
+    assertThat(batches.get(0), contains("a", "b", "c"));
+    assertThat(a.join(), is("A"));
+    assertThat(b.join(), is("B"));
+  }
+
+  @Test
+  public void shouldLoadAPartBatchOnceTheDelayHasPassed() {
+    config.setMaxDelay(Duration.milliseconds(200));
+    MicroBatcher<String, String> batcher = batcher(this::upperCase);
+
+    CompletableFuture<String> a = batcher.get("a");
+    CompletableFuture<String> again = batcher.get("a");
+    CompletableFuture<String> b = batcher.get("b");
+
+    assertThat(a.join(), is("A"));
+    assertThat(again, sameInstance(a));
+    assertThat(b.join(), is("B"));
+    assertThat(batches.size(), is(1));
+    assertThat(batches.get(0), containsInAnyOrder("a", "b"));
+  }
+
+  @Test
+  public void shouldCompleteKeysWithoutValuesWithNull() {
+    MicroBatcher<String, String> batcher = batcher(keys -> Collections.emptyMap());
+
+    assertThat(batcher.get("a").join(), nullValue());
+  }
+
+  @Test
+  public void shouldFailEveryKeyInAFailedBatch() {
+    IllegalStateException failure = new IllegalStateException("unavailable");
+    MicroBatcher<String, String> batcher =
+        batcher(
+            keys -> {
+              throw failure;
+            });
+
+    CompletableFuture<String> a = batcher.get("a");
+    CompletableFuture<String> b = batcher.get("b");
+
+    for (CompletableFuture<String> result : Arrays.asList(a, b)) {
+      CompletionException e = assertThrows(CompletionException.class, result::join);
+      assertThat(e.getCause(), instanceOf(IllegalStateException.class));
+    }
+  }
+
+  private MicroBatcher<String, String> batcher(Function<Set<String>, Map<String, String>> load) {
+    return new MicroBatcher<>(
+        "test",
+        config,
+        keys -> {
+          batches.add(keys);
+          return load.apply(keys);
+        },
+        scheduler,
+        Runnable::run,
+        new MetricRegistry());
+  }
+
+  private Map<String, String> upperCase(Set<String> keys) {
+    return keys.stream().collect(Collectors.toMap(Function.identity(), String::toUpperCase));
+  }
+}
@@ -0,0 +1,96 @@
+package com.ft.universalpublishing.documentstore.service;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.ft.universalpublishing.documentstore.exception.ValidationException;
+import com.ft.universalpublishing.documentstore.write.ChangeEvent;
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+/** Change streams need a replica set, so these tests are skipped against a standalone server. */
+public class MongoDocumentStoreServiceChangesTest {
+
+  private static final String DB_NAME = "upp-store";
+  private static final String DB_COLLECTION = "content";
+
+  @RegisterExtension
+  static EmbeddedMongoExtension mongo =
+      EmbeddedMongoExtension.builder().dbName(DB_NAME).dbCollection(DB_COLLECTION).build();
+
+  private MongoDocumentStoreService mongoDocumentStoreService;
+
+  @BeforeEach
+  public void setup() {
+    assumeTrue(
+        mongo.getDb().runCommand(new Document("isMaster", 1)).containsKey("setName"),
+        "MONGO_TEST_URL is not a replica set");
+    mongo.getDb().createCollection(DB_COLLECTION);
+    mongoDocumentStoreService =
+        new MongoDocumentStoreService(mongo.getDb(), Executors.newSingleThreadExecutor());
+  }
+
+  @Test
+  public void shouldReportWritesAndDeletesInOrder() {
+    String uuid = UUID.randomUUID().toString();
+    List<ChangeEvent> events = new ArrayList<>();
+    try (ChangeFeed changeFeed = mongoDocumentStoreService.watchChanges(DB_COLLECTION, null)) {
+      mongoDocumentStoreService.write(DB_COLLECTION, ImmutableMap.of("uuid", uuid, "title", "a"));
+      mongoDocumentStoreService.write(DB_COLLECTION, ImmutableMap.of("uuid", uuid, "title", "b"));
+      mongoDocumentStoreService.delete(DB_COLLECTION, UUID.fromString(uuid));
+      changeFeed.forEach(2000, events::add);
+    }
+
+    assertThat(
+        events.stream().map(ChangeEvent::getType).collect(Collectors.toList()),
+        contains(
+            ChangeEvent.Type.CREATED,
+            ChangeEvent.Type.UPDATED,
+            ChangeEvent.Type.DELETED,
+            ChangeEvent.Type.CHECKPOINT));
+    assertThat(events.get(0).getUuid(), equalTo(uuid));
+    assertThat(events.get(1).getUuid(), equalTo(uuid));
+    assertThat(events.get(2).getId(), equalTo(events.get(0).getId()));
+    assertThat(events.get(2).getUuid(), equalTo(uuid));
+    assertThat(events.get(0).getClusterTime(), notNullValue());
+  }
+
+  @Test
+  public void shouldResumeAfterToken() {
+    String first = UUID.randomUUID().toString();
+    String second = UUID.randomUUID().toString();
+    List<ChangeEvent> events = new ArrayList<>();
+    try (ChangeFeed changeFeed = mongoDocumentStoreService.watchChanges(DB_COLLECTION, null)) {
+      mongoDocumentStoreService.write(DB_COLLECTION, ImmutableMap.of("uuid", first));
+      mongoDocumentStoreService.write(DB_COLLECTION, ImmutableMap.of("uuid", second));
+      changeFeed.forEach(2000, events::add);
+    }
+
+    List<ChangeEvent> resumed = new ArrayList<>();
+    try (ChangeFeed changeFeed =
+        mongoDocumentStoreService.watchChanges(DB_COLLECTION, events.get(0).getResumeToken())) {
+      changeFeed.forEach(1000, resumed::add);
+    }
+
+    assertThat(resumed.get(0).getUuid(), equalTo(second));
+  }
+
+  @Test
+  public void shouldRejectInvalidToken() {
+    assertThrows(
+        ValidationException.class,
+        () -> mongoDocumentStoreService.watchChanges(DB_COLLECTION, "not-a-token"));
+  }
+}
@@ -1,14 +1,21 @@
 package com.ft.universalpublishing.documentstore.service;
 
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
 import static org.junit.Assert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.ft.universalpublishing.documentstore.CacheConfig;
 import com.ft.universalpublishing.documentstore.exception.DocumentNotFoundException;
+import com.ft.universalpublishing.documentstore.service.cache.DocumentCache;
+import com.ft.universalpublishing.documentstore.write.BulkItemResult;
 import com.ft.universalpublishing.documentstore.write.DocumentWritten;
 import com.ft.universalpublishing.documentstore.write.DocumentWritten.Mode;
 import com.google.common.collect.ImmutableMap;
@@ -34,6 +41,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
@@ -117,6 +125,42 @@ public class MongoDocumentStoreServiceContentTest {
     assertThat(contentMap, is(outboundContent));
   }
 
+  @Test
+  public void projectedContentShouldOnlyHoldRequestedFieldsAndUuid() {
+    mongoDocumentStoreService.write("content", content);
+    Set<String> fields = new LinkedHashSet<>(Arrays.asList("title", "publishedDate"));
+
+    RawBsonDocument single = mongoDocumentStoreService.findRawByUuid("content", uuid, fields);
+    Map<String, RawBsonDocument> multiple =
+        mongoDocumentStoreService.findRawByUuids(
+            "content", Collections.singletonList(uuid.toString()), fields);
+
+    assertThat(
+        single.keySet(),
+        containsInAnyOrder("uuid", "title", "publishedDate", DocumentVersion.ETAG_FIELD));
+    assertThat(multiple.get(uuid.toString()), equalTo(single));
+  }
+
+  @Test
+  public void cachedContentShouldBeProjectedToRequestedFields() {
+    DocumentCache documentCache =
+        new DocumentCache(
+            Collections.singletonMap(DB_COLLECTION, new CacheConfig()), new MetricRegistry());
+    MongoDocumentStoreService cachingService =
+        new MongoDocumentStoreService(
+            mongo.getDb(), Executors.newSingleThreadExecutor(), documentCache);
+    cachingService.write("content", content);
+    cachingService.findRawByUuid("content", uuid);
+
+    RawBsonDocument projected =
+        cachingService.findRawByUuid("content", uuid, Collections.singleton("byline"));
+
+    assertThat(
+        projected.keySet(), containsInAnyOrder("uuid", "byline", DocumentVersion.ETAG_FIELD));
+    assertThat(
+        documentCache.get(DB_COLLECTION, uuid.toString()).containsKey("bodyXML"), is(true));
+  }
+
   @Test
   public void contentNotInStoreShouldNotBeReturned() {
     assertThrows(
@@ -215,6 +259,65 @@ public class MongoDocumentStoreServiceContentTest {
     assertThat((Date) foundContent.get("lastModified"), is(lastModifiedDate));
   }
 
+  @Test
+  public void writeShouldStoreAnEtagThatOnlyChangesWithTheContent() {
+    mongoDocumentStoreService.write("content", content);
+    DocumentVersion written = mongoDocumentStoreService.findVersionByUuid("content", uuid);
+    mongoDocumentStoreService.write("content", content);
+    DocumentVersion rewritten = mongoDocumentStoreService.findVersionByUuid("content", uuid);
+    Map<String, Object> updatedContent = new HashMap<>(content);
+    updatedContent.put("title", "Here is more news");
+    mongoDocumentStoreService.write("content", updatedContent);
+    DocumentVersion updated = mongoDocumentStoreService.findVersionByUuid("content", uuid);
+
+    assertThat(written.getEtag(), notNullValue());
+    assertThat(written.getLastModified(), equalTo(lastModifiedDate));
+    assertThat(rewritten, equalTo(written));
+    assertThat(updated.getEtag(), not(equalTo(written.getEtag())));
+    assertThat(
+        mongoDocumentStoreService.findByUuid("content", uuid)
+            .containsKey(DocumentVersion.ETAG_FIELD),
+        is(false));
+  }
+
+  @Test
+  public void contentWrittenWithoutAnEtagShouldGetOneStoredOnFirstRead() {
+    collection.insertOne(new Document(content));
+
+    DocumentVersion version = mongoDocumentStoreService.findVersionByUuid("content", uuid);
+    RawBsonDocument projected =
+        mongoDocumentStoreService.findRawByUuid("content", uuid, Collections.singleton("title"));
+
+    assertThat(version.getEtag(), notNullValue());
+    assertThat(version.getLastModified(), equalTo(lastModifiedDate));
+    assertThat(DocumentVersion.of(projected).getEtag(), equalTo(version.getEtag()));
+    assertThat(
+        DocumentVersion.of(mongoDocumentStoreService.findRawByUuid("content", uuid)),
+        equalTo(version));
+    Document stored = collection.find(Filters.eq("uuid", uuid.toString())).first();
+    assertThat(stored.get(DocumentVersion.ETAG_FIELD), equalTo(version.getEtag()));
+  }
+
+  @Test
+  public void bulkWriteShouldReportCreatedAndUpdatedDocuments() {
+    mongoDocumentStoreService.write("content", content);
+    String newUuid = UUID.randomUUID().toString();
+    Map<String, Object> newContent = new HashMap<>(content);
+    newContent.put("uuid", newUuid);
+    Map<String, Object> updatedContent = new HashMap<>(content);
+    updatedContent.put("title", "Here is more news");
+
+    List<BulkItemResult> results =
+        mongoDocumentStoreService.writeAll("content", Arrays.asList(updatedContent, newContent));
+
+    assertThat(
+        results,
+        contains(BulkItemResult.updated(uuid.toString()), BulkItemResult.created(newUuid)));
+    Document foundContent = collection.find().filter(Filters.eq("uuid", uuid.toString())).first();
+    assertThat((String) foundContent.get("title"), is("Here is more news"));
+    assertThat(collection.find().filter(Filters.eq("uuid", newUuid)).first(), notNullValue());
+  }
+
   @Test
   public void contentShouldBeDeletedOnRemove() {
     DocumentWritten result = mongoDocumentStoreService.write("content", content);
@@ -227,6 +330,34 @@ public class MongoDocumentStoreServiceContentTest {
     assertThat(collection.find().filter(Filters.eq("uuid", uuid.toString())).first(), nullValue());
   }
 
+  @Test
+  public void deleteShouldRecordTheUuidUnderTheDeletedId() {
+    mongoDocumentStoreService.write("content", content);
+    Object id = collection.find().filter(Filters.eq("uuid", uuid.toString())).first().get("_id");
+
+    mongoDocumentStoreService.delete("content", uuid);
+
+    Document deletion =
+        mongo.getDb().getCollection("deletions").find(Filters.eq("_id", id)).first();
+    assertThat(deletion.getString("uuid"), is(uuid.toString()));
+    assertThat(deletion.getString("collection"), is("content"));
+  }
+
+  @Test
+  public void bulkDeleteShouldReportMissingDocuments() {
+    mongoDocumentStoreService.write("content", content);
+    String missingUuid = UUID.randomUUID().toString();
+
+    List<BulkItemResult> results =
+        mongoDocumentStoreService.deleteAll(
+            "content", Arrays.asList(missingUuid, uuid.toString()));
+
+    assertThat(
+        results,
+        contains(BulkItemResult.notFound(missingUuid), BulkItemResult.deleted(uuid.toString())));
+    assertThat(collection.find().filter(Filters.eq("uuid", uuid.toString())).first(), nullValue());
+  }
+
   @Test
   public void deleteForContentNotInStoreThrowsContentNotFoundException() {
     Exception exception =
@@ -238,6 +369,16 @@ public class MongoDocumentStoreServiceContentTest {
     assertThat(exception.getMessage(), equalTo(expectedMessage));
   }
 
+  @Test
+  public void deleteForContentNotInStoreShouldRecordNoDeletion() {
+    assertThrows(
+        DocumentNotFoundException.class, () -> mongoDocumentStoreService.delete("content", uuid));
+
+    assertThat(
+        mongo.getDb().getCollection("deletions").find(Filters.eq("uuid", uuid.toString())).first(),
+        nullValue());
+  }
+
   @Test
   public void thatFindByIdentifierReturnsDocument() {
     final Document identifier =
@@ -422,4 +563,39 @@ public class MongoDocumentStoreServiceContentTest {
             "{ \"uuid\" : \"d08ef814-f295-11e6-a94b-0e7d0412f5a5\", \"identifiers\" : { \"authority\" : \"http://api.ft.com/system/FT-LABS-WP-1-335\" } }\n"
                 + "{ \"uuid\" : \"8ae3f1dc-f288-11e6-8758-6876151821a6\", \"identifiers\" : { \"authority\" : \"http://api.ft.com/system/FTCOM-METHODE\" } }\n"));
   }
+
+  @Test
+  public void idsShouldBeExportedInDisjointPartitionsInUuidOrder() throws IOException {
+    List<String> uuids =
+        Arrays.asList(
+            "0a0ef814-f295-11e6-a94b-0e7d0412f5a5",
+            "5b0ef814-f295-11e6-a94b-0e7d0412f5a5",
+            "8ae3f1dc-f288-11e6-8758-6876151821a6",
+            "d08ef814-f295-11e6-a94b-0e7d0412f5a5",
+            "ff0ef814-f295-11e6-a94b-0e7d0412f5a5");
+    for (int i = uuids.size() - 1; i >= 0; i--) {
+      collection.insertOne(new Document("uuid", uuids.get(i)));
+    }
+
+    ByteArrayOutputStream first = new ByteArrayOutputStream();
+    ByteArrayOutputStream second = new ByteArrayOutputStream();
+    mongoDocumentStoreService.findUUIDs(
+        "content", false, UuidRange.partition(0, 2), first, new Meter());
+    mongoDocumentStoreService.findUUIDs(
+        "content", false, UuidRange.partition(1, 2), second, new Meter());
+
+    assertThat(first.toString(), equalTo(idRows(uuids.subList(0, 2))));
+    assertThat(second.toString(), equalTo(idRows(uuids.subList(2, 5))));
+
+    ByteArrayOutputStream resumed = new ByteArrayOutputStream();
+    mongoDocumentStoreService.findUUIDs(
+        "content", false, UuidRange.partition(1, 2).after(uuids.get(2)), resumed, new Meter());
+    assertThat(resumed.toString(), equalTo(idRows(uuids.subList(3, 5))));
+  }
+
+  private static String idRows(List<String> uuids) {
+    return uuids.stream()
+        .map(uuid -> new Document("uuid", uuid).toJson() + "\n")
+        .collect(Collectors.joining());
+  }
 }
@@ -2,6 +2,7 @@ package com.ft.universalpublishing.documentstore.service;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ft.universalpublishing.documentstore.model.read.Concept;
@@ -9,11 +10,13 @@ import com.ft.universalpublishing.documentstore.model.read.ContentList;
 import com.google.common.collect.ImmutableMap;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
 import org.bson.Document;
 import org.junit.Assert;
 import org.junit.jupiter.api.BeforeEach;
@@ -120,12 +123,31 @@ public class MongoDocumentStoreServiceListDiscoveryAPITest {
   @BeforeEach
   public void setup() {
     MongoDatabase db = mongo.getDb();
-    mongoDocumentStoreService =
-        new MongoDocumentStoreService(db, Executors.newSingleThreadExecutor());
+    // nothing runs in the background, so titles are only tokenized when a test asks
+    mongoDocumentStoreService = new MongoDocumentStoreService(db, mock(ExecutorService.class));
     mongoDocumentStoreService.applyIndexes();
     collection = db.getCollection(DB_COLLECTION);
   }
 
+  // stored as lists written before titles were tokenized
+  private void insertTestData() {
+    collection.insertMany(TEST_DATA);
+  }
+
+  // title searches are checked against the stored lists, then again once startup has tokenized them
+  private void assertTitleSearch(
+      UUID[] conceptUUIDs, String listType, String searchTerm, List<ContentList> expected) {
+    for (int i = 0; i < 2; i++) {
+      List<Document> filteredLists =
+          mongoDocumentStoreService.filterLists(DB_COLLECTION, conceptUUIDs, listType, searchTerm);
+      List<ContentList> retrieved = new ArrayList<>();
+      filteredLists.forEach(
+          list -> retrieved.add(new ObjectMapper().convertValue(list, ContentList.class)));
+      assertThat(retrieved, is(expected));
+      mongoDocumentStoreService.addMissingTitleTokens(DB_COLLECTION);
+    }
+  }
+
   @Test
   public void searchWithNoParamsAndNoListsShouldReturnEmptyArray() {
     UUID[] tConceptUUID = new UUID[] {};
@@ -140,7 +162,7 @@ public class MongoDocumentStoreServiceListDiscoveryAPITest {
 
   @Test
   public void searchWithNoParamsShouldReturnAllLists() {
-    collection.insertMany(TEST_DATA);
+    insertTestData();
     UUID[] tConceptUUIDs = null;
     String tListType = null;
     String tSearchTerm = null;
@@ -153,7 +175,7 @@ public class MongoDocumentStoreServiceListDiscoveryAPITest {
 
   @Test
   public void searchByConceptUUIDReturnsAllListsWithThisConcept() {
-    collection.insertMany(TEST_DATA);
+    insertTestData();
     UUID[] tConceptUUIDs =
         new UUID[] {UUID.fromString(TEST_DATA_CONCEPT.get("conceptUUID").toString())};
     String tListType = null;
@@ -182,7 +204,7 @@ public class MongoDocumentStoreServiceListDiscoveryAPITest {
 
   @Test
   public void searchByConceptUUIDReturnsAllListsForMultipleConcepts() {
-    collection.insertMany(TEST_DATA);
+    insertTestData();
     UUID[] tConceptUUIDs =
         new UUID[] {
           UUID.fromString(TEST_DATA_CONCEPT.get("conceptUUID").toString()),
@@ -206,7 +228,7 @@ public class MongoDocumentStoreServiceListDiscoveryAPITest {
 
   @Test
   public void searchByConceptUUIDReturnsEmptyArrayWhenNoMatches() {
-    collection.insertMany(TEST_DATA);
+    insertTestData();
 
     UUID[] tConceptUUIDs = new UUID[] {UUID.randomUUID()};
     String tListType = null;
@@ -220,7 +242,7 @@ public class MongoDocumentStoreServiceListDiscoveryAPITest {
 
   @Test
   public void searchByListTypeReturnsAllListsWithThisListType() {
-    collection.insertMany(TEST_DATA);
+    insertTestData();
 
     UUID[] tConceptUUIDs = null;
     String tListType = TEST_DATA_LIST_TYPE.get("listType").toString();
@@ -249,7 +271,7 @@ public class MongoDocumentStoreServiceListDiscoveryAPITest {
 
   @Test
   public void searchByListTypeReturnsEmptyArrayWhenNoMatches() {
-    collection.insertMany(TEST_DATA);
+    insertTestData();
 
     UUID[] tConceptUUIDs = new UUID[] {};
     String tListType = "NonExistent";
@@ -263,7 +285,7 @@ public class MongoDocumentStoreServiceListDiscoveryAPITest {
 
   @Test
   public void searchBySearchTermReturnsAllListsWithThisTermInTitle() {
-    collection.insertMany(TEST_DATA);
+    insertTestData();
 
     UUID[] tConceptUUIDs = null;
     String tListType = null;
@@ -282,31 +304,24 @@ public class MongoDocumentStoreServiceListDiscoveryAPITest {
             .withListType((String) TEST_DATA_TITLE.get("listType"))
             .build();
 
-    List<Document> filteredLists =
-        mongoDocumentStoreService.filterLists(DB_COLLECTION, tConceptUUIDs, tListType, tSearchTerm);
-    ContentList retrievedList =
-        new ObjectMapper().convertValue(filteredLists.get(0), ContentList.class);
-
-    assertThat(retrievedList, is(expectedList));
+    assertTitleSearch(
+        tConceptUUIDs, tListType, tSearchTerm, Collections.singletonList(expectedList));
   }
 
   @Test
   public void searchBySearchTermReturnsEmptyArrayWhenNoMatches() {
-    collection.insertMany(TEST_DATA);
+    insertTestData();
 
     UUID[] tConceptUUIDs = null;
     String tListType = null;
     String tSearchTerm = "NonExistent";
 
-    List<Document> filteredLists =
-        mongoDocumentStoreService.filterLists(DB_COLLECTION, tConceptUUIDs, tListType, tSearchTerm);
-
-    assertThat(filteredLists.size(), is(0));
+    assertTitleSearch(tConceptUUIDs, tListType, tSearchTerm, Collections.emptyList());
   }
 
   @Test
   public void searchByConceptUUIDListTypeAndSearchTermReturnsAllListsMatchingAllCriteria() {
-    collection.insertMany(TEST_DATA);
+    insertTestData();
 
     UUID[] tConceptUUIDs = new UUID[] {(UUID) TEST_DATA_All.get("conceptUUID")};
     String tListType = TEST_DATA_All.get("listType").toString();
@@ -325,25 +340,18 @@ public class MongoDocumentStoreServiceListDiscoveryAPITest {
             .withListType((String) TEST_DATA_All.get("listType"))
             .build();
 
-    List<Document> filteredLists =
-        mongoDocumentStoreService.filterLists(DB_COLLECTION, tConceptUUIDs, tListType, tSearchTerm);
-    ContentList retrievedList =
-        new ObjectMapper().convertValue(filteredLists.get(0), ContentList.class);
-
-    assertThat(retrievedList, is(expectedList));
+    assertTitleSearch(
+        tConceptUUIDs, tListType, tSearchTerm, Collections.singletonList(expectedList));
   }
 
   @Test
   public void searchByConceptUUIDListTypeAndSearchTermReturnsEmptyArrayWhenNoMatches() {
-    collection.insertMany(TEST_DATA);
+    insertTestData();
 
     UUID[] tConceptUUIDs = new UUID[] {UUID.randomUUID()};
     String tListType = "NonExistent";
     String tSearchTerm = "NonExistent";
 
-    List<Document> filteredLists =
-        mongoDocumentStoreService.filterLists(DB_COLLECTION, tConceptUUIDs, tListType, tSearchTerm);
-
-    assertThat(filteredLists.size(), is(0));
+    assertTitleSearch(tConceptUUIDs, tListType, tSearchTerm, Collections.emptyList());
   }
 }
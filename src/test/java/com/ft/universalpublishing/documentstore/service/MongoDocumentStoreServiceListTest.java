@@ -7,9 +7,11 @@ import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ft.universalpublishing.documentstore.exception.DocumentNotFoundException;
+import com.ft.universalpublishing.documentstore.exception.ValidationException;
 import com.ft.universalpublishing.documentstore.model.read.ContentList;
 import com.ft.universalpublishing.documentstore.model.read.ListItem;
 import com.ft.universalpublishing.documentstore.write.DocumentWritten;
@@ -20,10 +22,12 @@ import com.mongodb.BasicDBObject;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
 import com.mongodb.client.model.Filters;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -235,6 +239,129 @@ public class MongoDocumentStoreServiceListTest {
     assertThat(exception.getMessage(), equalTo(expectedMessage));
   }
 
+  @Test
+  public void thatWrittenListsAreFoundByTitleWordPrefixes() {
+    ContentList list =
+        new ContentList.Builder().withUuid(uuid).withTitle("Caf\u00e9 Society").build();
+    mongoDocumentStoreService.write("lists", new ObjectMapper().convertValue(list, Map.class));
+
+    Document stored = collection.find(Filters.eq("uuid", uuid.toString())).first();
+    assertThat(stored.get(TitleTokens.FIELD), is((Object) Arrays.asList("cafe", "society")));
+
+    List<Document> found = mongoDocumentStoreService.filterLists(DB_COLLECTION, null, null, "SOC");
+    assertThat(found.size(), is(1));
+    assertThat(found.get(0).containsKey(TitleTokens.FIELD), is(false));
+    assertThat(
+        mongoDocumentStoreService.filterLists(DB_COLLECTION, null, null, "cafe soc").size(), is(1));
+    assertThat(
+        mongoDocumentStoreService.filterLists(DB_COLLECTION, null, null, "ciety").size(), is(0));
+  }
+
+  @Test
+  public void thatSearchTermsAreNotTreatedAsRegularExpressions() {
+    collection.insertOne(new Document("uuid", uuid.toString()).append("title", "(a+)+ lists"));
+    ContentList list =
+        new ContentList.Builder().withUuid(UUID.randomUUID()).withTitle("Top Picks").build();
+    mongoDocumentStoreService.write("lists", new ObjectMapper().convertValue(list, Map.class));
+    mongoDocumentStoreService.addMissingTitleTokens(DB_COLLECTION);
+
+    List<Document> found =
+        mongoDocumentStoreService.filterLists(DB_COLLECTION, null, null, "(a+)+");
+
+    assertThat(found.size(), is(1));
+    assertThat(found.get(0).get("uuid"), is((Object) uuid.toString()));
+  }
+
+  @Test
+  public void thatTitlesOfExistingListsAreTokenized() {
+    collection.insertOne(new Document("uuid", uuid.toString()).append("title", "Editor's Picks"));
+
+    mongoDocumentStoreService.addMissingTitleTokens(DB_COLLECTION);
+
+    Document stored = collection.find(Filters.eq("uuid", uuid.toString())).first();
+    assertThat(stored.get(TitleTokens.FIELD), is((Object) Arrays.asList("editor", "s", "picks")));
+    assertThat(
+        mongoDocumentStoreService.filterLists(DB_COLLECTION, null, null, "edit").size(), is(1));
+  }
+
+  @Test
+  public void thatTitlesAreMatchedByWordPrefixOnceExistingListsAreTokenized() {
+    // nothing runs in the background, so lists are only tokenized when asked
+    MongoDocumentStoreService notTokenized =
+        new MongoDocumentStoreService(mongo.getDb(), mock(ExecutorService.class));
+    collection.insertOne(new Document("uuid", uuid.toString()).append("title", "Editor's Picks"));
+    assertThat(notTokenized.filterLists(DB_COLLECTION, null, null, "itor").size(), is(1));
+
+    notTokenized.addMissingTitleTokens(DB_COLLECTION);
+
+    assertThat(notTokenized.filterLists(DB_COLLECTION, null, null, "itor").size(), is(0));
+    assertThat(notTokenized.filterLists(DB_COLLECTION, null, null, "pick").size(), is(1));
+  }
+
+  @Test
+  public void thatSearchesArePagedInTheOrderListsWereStored() {
+    List<String> stored = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      String listUuid = UUID.randomUUID().toString();
+      collection.insertOne(new Document("uuid", listUuid).append("listType", "Paged"));
+      stored.add(listUuid);
+    }
+
+    List<String> found = new ArrayList<>();
+    List<Integer> pageSizes = new ArrayList<>();
+    String after = null;
+    do {
+      ListPage page =
+          mongoDocumentStoreService.filterLists(DB_COLLECTION, null, "Paged", null, 2, after);
+      page.getDocuments().forEach(doc -> found.add(doc.getString("uuid")));
+      pageSizes.add(page.getDocuments().size());
+      after = page.getNext();
+    } while (after != null);
+
+    assertThat(pageSizes, is(Arrays.asList(2, 2, 1)));
+    assertThat(found, is(stored));
+  }
+
+  @Test
+  public void thatSearchesWithoutALimitGetTheLargestPage() {
+    List<Document> lists = new ArrayList<>();
+    for (int i = 0; i <= MongoDocumentStoreService.MAX_LIST_PAGE_SIZE; i++) {
+      lists.add(new Document("uuid", UUID.randomUUID().toString()).append("listType", "All"));
+    }
+    collection.insertMany(lists);
+
+    ListPage page =
+        mongoDocumentStoreService.filterLists(DB_COLLECTION, null, "All", null, null, null);
+
+    assertThat(page.getDocuments().size(), is(MongoDocumentStoreService.MAX_LIST_PAGE_SIZE));
+    assertThat(page.getNext(), notNullValue());
+  }
+
+  @Test
+  public void thatApplyingIndexesDropsTheUnsortedConceptAndListTypeIndex() {
+    collection.createIndex(new Document("concept.uuid", 1).append("listType", 1));
+
+    mongoDocumentStoreService.applyIndexes();
+
+    List<Object> indexKeys = new ArrayList<>();
+    for (Document index : collection.listIndexes()) {
+      indexKeys.add(index.get("key"));
+    }
+    assertThat(
+        indexKeys.contains(new Document("concept.uuid", 1).append("listType", 1)), is(false));
+    assertThat(indexKeys.contains(new Document("listType", 1).append("_id", 1)), is(true));
+  }
+
+  @Test
+  public void thatInvalidPagesAreRejected() {
+    assertThrows(
+        ValidationException.class,
+        () -> mongoDocumentStoreService.filterLists(DB_COLLECTION, null, null, null, 0, null));
+    assertThrows(
+        ValidationException.class,
+        () -> mongoDocumentStoreService.filterLists(DB_COLLECTION, null, null, null, 2, "nope"));
+  }
+
   @Test
   public void thatFindByConceptAndTypeReturnsDocument() {
     BasicDBList items = new BasicDBList();
@@ -4,17 +4,22 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.codahale.metrics.MetricRegistry;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ft.universalpublishing.documentstore.CacheConfig;
 import com.ft.universalpublishing.documentstore.clients.PublicConceptsApiClient;
 import com.ft.universalpublishing.documentstore.model.read.Concept;
+import com.ft.universalpublishing.documentstore.service.cache.ConceptCache;
 import java.util.List;
 import java.util.UUID;
 import javax.ws.rs.core.Response;
@@ -24,7 +29,8 @@ import org.junit.jupiter.api.BeforeEach;
 public class PublicConceptsApiServiceImplTest {
   private PublicConceptsApiClient publicConceptsApiClientMock = mock(PublicConceptsApiClient.class);
   private PublicConceptsApiServiceImpl publicConceptApiService =
-      new PublicConceptsApiServiceImpl(publicConceptsApiClientMock);
+      new PublicConceptsApiServiceImpl(
+          publicConceptsApiClientMock, ConceptCache.disabled(), new ObjectMapper());
 
   @BeforeEach
   public void setup() {
@@ -96,6 +102,8 @@ public class PublicConceptsApiServiceImplTest {
     verify(publicConceptsApiClientMock).getConcept(eq(conceptUuid));
 
     assertNull(result);
+    // the connection goes back to the pool even though the body is never read
+    verify(response).close();
   }
 
   @Test
@@ -170,4 +178,78 @@ public class PublicConceptsApiServiceImplTest {
 
     assertTrue(result.size() == 2);
   }
+
+  @Test
+  public void shouldServeRepeatedLookupsFromCache() throws JsonProcessingException {
+    PublicConceptsApiServiceImpl cachingService = createCachingService();
+    Concept concept = new Concept(UUID.randomUUID(), "somePrefLabel");
+    String message = new ObjectMapper().writeValueAsString(concept);
+
+    final Response response = mock(Response.class);
+    when(response.getStatus()).thenReturn(Response.Status.OK.getStatusCode());
+    when(response.readEntity(eq(String.class))).thenReturn(message);
+
+    String conceptUuid = concept.getUuid().toString();
+    when(publicConceptsApiClientMock.getConcept(eq(conceptUuid))).thenReturn(response);
+    Concept first = cachingService.getUpToDateConcept(conceptUuid);
+    first.setUuid(null);
+    Concept second = cachingService.getUpToDateConcept(conceptUuid);
+    verify(publicConceptsApiClientMock, times(1)).getConcept(eq(conceptUuid));
+
+    assertEquals(concept, second, "Expected cached concept to be unaffected by callers");
+  }
+
+  @Test
+  public void shouldRememberConceptsThatWereNotFound() throws JsonProcessingException {
+    PublicConceptsApiServiceImpl cachingService = createCachingService();
+
+    final Response response = mock(Response.class);
+    when(response.getStatus()).thenReturn(Response.Status.NOT_FOUND.getStatusCode());
+
+    String conceptUuid = UUID.randomUUID().toString();
+    when(publicConceptsApiClientMock.getConcept(eq(conceptUuid))).thenReturn(response);
+    assertNull(cachingService.getUpToDateConcept(conceptUuid));
+    assertNull(cachingService.getUpToDateConcept(conceptUuid));
+    assertTrue(cachingService.searchConcepts(new String[] {conceptUuid}).isEmpty());
+    verify(publicConceptsApiClientMock, times(1)).getConcept(eq(conceptUuid));
+    verify(publicConceptsApiClientMock, times(0)).searchConcepts(any(String[].class));
+  }
+
+  @Test
+  public void shouldOnlySearchConceptsThatAreNotCached() throws JsonProcessingException {
+    PublicConceptsApiServiceImpl cachingService = createCachingService();
+    Concept cached = new Concept(UUID.randomUUID(), "cachedPrefLabel");
+    Concept uncached = new Concept(UUID.randomUUID(), "uncachedPrefLabel");
+    String cachedUuid = cached.getUuid().toString();
+    String uncachedUuid = uncached.getUuid().toString();
+    uncached.setOriginalUUID(uncachedUuid);
+
+    final Response getResponse = mock(Response.class);
+    when(getResponse.getStatus()).thenReturn(Response.Status.OK.getStatusCode());
+    when(getResponse.readEntity(eq(String.class)))
+        .thenReturn(new ObjectMapper().writeValueAsString(cached));
+    when(publicConceptsApiClientMock.getConcept(eq(cachedUuid))).thenReturn(getResponse);
+    cachingService.getUpToDateConcept(cachedUuid);
+
+    final Response searchResponse = mock(Response.class);
+    when(searchResponse.getStatus()).thenReturn(Response.Status.OK.getStatusCode());
+    when(searchResponse.readEntity(eq(String.class)))
+        .thenReturn(new ObjectMapper().writeValueAsString(new Concept[] {uncached}));
+    when(publicConceptsApiClientMock.searchConcepts(eq(new String[] {uncachedUuid})))
+        .thenReturn(searchResponse);
+
+    List<Concept> result =
+        cachingService.searchConcepts(new String[] {cachedUuid, uncachedUuid});
+    verify(publicConceptsApiClientMock).searchConcepts(eq(new String[] {uncachedUuid}));
+
+    assertTrue(result.size() == 2);
+    assertTrue(result.stream().anyMatch(concept -> cachedUuid.equals(concept.getOriginalUUID())));
+  }
+
+  private PublicConceptsApiServiceImpl createCachingService() {
+    return new PublicConceptsApiServiceImpl(
+        publicConceptsApiClientMock,
+        new ConceptCache(new CacheConfig(), new CacheConfig(), new MetricRegistry()),
+        new ObjectMapper());
+  }
 }
@@ -5,16 +5,20 @@ import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.codahale.metrics.MetricRegistry;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ft.universalpublishing.documentstore.RefreshingCacheConfig;
 import com.ft.universalpublishing.documentstore.clients.PublicConcordancesApiClient;
 import com.ft.universalpublishing.documentstore.model.read.Concept;
 import com.ft.universalpublishing.documentstore.model.read.Concordance;
 import com.ft.universalpublishing.documentstore.model.read.Concordances;
 import com.ft.universalpublishing.documentstore.model.read.Identifier;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
@@ -26,7 +30,12 @@ public class PublicConcordancesApiServiceImplTest {
   private PublicConcordancesApiClient publicConcordancesApiClientMock =
       mock(PublicConcordancesApiClient.class);
   private PublicConcordancesApiServiceImpl publicConcordancesApiService =
-      new PublicConcordancesApiServiceImpl(publicConcordancesApiClientMock);
+      new PublicConcordancesApiServiceImpl(
+          publicConcordancesApiClientMock,
+          new ObjectMapper(),
+          new RefreshingCacheConfig(),
+          MoreExecutors.directExecutor(),
+          new MetricRegistry());
 
   @BeforeEach
   public void setup() {
@@ -123,4 +132,40 @@ public class PublicConcordancesApiServiceImplTest {
 
     assertTrue(result.size() == 2);
   }
+
+  @Test
+  public void shouldServeRepeatedLookupsFromCache() throws JsonProcessingException {
+    Concordance concordance =
+        new Concordance(
+            new Concept(UUID.randomUUID(), "somePrefLabel"),
+            new Identifier("http://api.ft.com/system/UPP", UUID.randomUUID().toString()));
+    String message =
+        new ObjectMapper().writeValueAsString(new Concordances(Arrays.asList(concordance)));
+
+    final Response response = mock(Response.class);
+    when(response.getStatus()).thenReturn(Response.Status.OK.getStatusCode());
+    when(response.readEntity(eq(String.class))).thenReturn(message);
+
+    String conceptUUID = "123";
+    when(publicConcordancesApiClientMock.getConcordances(eq(conceptUUID))).thenReturn(response);
+    List<Concordance> first = publicConcordancesApiService.getUPPConcordances(conceptUUID);
+    first.clear();
+    List<Concordance> second = publicConcordancesApiService.getUPPConcordances(conceptUUID);
+    verify(publicConcordancesApiClientMock, times(1)).getConcordances(eq(conceptUUID));
+
+    assertTrue(second.size() == 1);
+  }
+
+  @Test
+  public void shouldNotCacheUnexpectedStatusCodes() throws JsonProcessingException {
+    final Response response = mock(Response.class);
+    when(response.getStatus()).thenReturn(Response.Status.SERVICE_UNAVAILABLE.getStatusCode());
+
+    String conceptUUID = "123";
+    when(publicConcordancesApiClientMock.getConcordances(eq(conceptUUID))).thenReturn(response);
+    publicConcordancesApiService.getUPPConcordances(conceptUUID);
+    publicConcordancesApiService.getUPPConcordances(conceptUUID);
+    verify(publicConcordancesApiClientMock, times(2)).getConcordances(eq(conceptUUID));
+    verify(response, times(2)).close();
+  }
 }
@@ -0,0 +1,33 @@
+package com.ft.universalpublishing.documentstore.service;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.Assert.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+public class TitleTokensTest {
+
+  @Test
+  public void shouldLowercaseAndStripAccents() {
+    assertThat(
+        TitleTokens.of("Cr\u00e8me Br\u00fbl\u00e9e RECIPES"),
+        contains("creme", "brulee", "recipes"));
+  }
+
+  @Test
+  public void shouldSplitOnAnythingButLettersAndDigits() {
+    assertThat(TitleTokens.of("Top-10 (a+)+ $picks"), contains("top", "10", "a", "picks"));
+  }
+
+  @Test
+  public void shouldKeepEachTokenOnce() {
+    assertThat(TitleTokens.of("World news, world sport"), contains("world", "news", "sport"));
+  }
+
+  @Test
+  public void shouldHaveNoTokensForNoWords() {
+    assertThat(TitleTokens.of(null), empty());
+    assertThat(TitleTokens.of(" -- "), empty());
+  }
+}
@@ -0,0 +1,90 @@
+package com.ft.universalpublishing.documentstore.service.cache;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import com.ft.universalpublishing.documentstore.CacheConfig;
+import java.util.Collections;
+import java.util.UUID;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class DocumentCacheTest {
+
+  private static final String COLLECTION = "content";
+
+  private MetricRegistry metrics;
+  private DocumentCache documentCache;
+  private String uuid;
+  private RawBsonDocument document;
+
+  @BeforeEach
+  public void setup() {
+    CacheConfig config = new CacheConfig();
+    config.setMaximumSize(1);
+    metrics = new MetricRegistry();
+    documentCache = new DocumentCache(Collections.singletonMap(COLLECTION, config), metrics);
+    uuid = UUID.randomUUID().toString();
+    document = new RawBsonDocument(new Document("uuid", uuid), new DocumentCodec());
+  }
+
+  @Test
+  public void shouldOnlyCacheConfiguredCollections() {
+    documentCache.put("lists", uuid, document, documentCache.generation("lists", uuid));
+
+    assertTrue(documentCache.isEnabled(COLLECTION));
+    assertFalse(documentCache.isEnabled("lists"));
+    assertThat(documentCache.get("lists", uuid), nullValue());
+  }
+
+  @Test
+  public void shouldReturnCachedDocumentUntilInvalidated() {
+    put(uuid);
+    assertThat(documentCache.get(COLLECTION, uuid), equalTo(document));
+
+    documentCache.invalidate(COLLECTION, uuid);
+    assertThat(documentCache.get(COLLECTION, uuid), nullValue());
+  }
+
+  @Test
+  public void shouldExposeHitMissAndEvictionCounts() {
+    put(uuid);
+    documentCache.get(COLLECTION, uuid);
+    documentCache.get(COLLECTION, UUID.randomUUID().toString());
+    put(UUID.randomUUID().toString());
+
+    assertThat(gauge("hits"), equalTo(1L));
+    assertThat(gauge("misses"), equalTo(1L));
+    assertThat(gauge("evictions"), equalTo(1L));
+  }
+
+  @Test
+  public void shouldNotCacheADocumentReadBeforeAnInvalidation() {
+    long generation = documentCache.generation(COLLECTION, uuid);
+    documentCache.invalidate(COLLECTION, uuid);
+
+    documentCache.put(COLLECTION, uuid, document, generation);
+    assertThat(documentCache.get(COLLECTION, uuid), nullValue());
+
+    put(uuid);
+    assertThat(documentCache.get(COLLECTION, uuid), equalTo(document));
+  }
+
+  private void put(String uuid) {
+    documentCache.put(COLLECTION, uuid, document, documentCache.generation(COLLECTION, uuid));
+  }
+
+  private Object gauge(String name) {
+    Gauge<?> gauge =
+        metrics.getGauges().get(MetricRegistry.name(DocumentCache.class, COLLECTION, name));
+    return gauge.getValue();
+  }
+}
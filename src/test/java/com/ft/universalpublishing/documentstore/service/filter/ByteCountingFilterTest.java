@@ -0,0 +1,112 @@
+package com.ft.universalpublishing.documentstore.service.filter;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+import com.codahale.metrics.MetricRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import javax.servlet.FilterChain;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletException;
+import javax.servlet.ServletInputStream;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class ByteCountingFilterTest {
+  private MetricRegistry metrics;
+  private ByteCountingFilter filter;
+  private ByteArrayOutputStream written;
+  @Mock private FilterChain chain;
+  @Mock private HttpServletRequest request;
+  @Mock private HttpServletResponse response;
+
+  @BeforeEach
+  public void setUp() {
+    metrics = new MetricRegistry();
+    filter = new ByteCountingFilter(metrics);
+    written = new ByteArrayOutputStream();
+  }
+
+  @Test
+  public void testEntityBytesAreMetered() throws IOException, ServletException {
+    when(request.getInputStream()).thenReturn(inputStream(new byte[100]));
+    when(response.getOutputStream()).thenReturn(outputStream());
+    doAnswer(
+            invocation -> {
+              ServletRequest wrappedRequest = invocation.getArgument(0);
+              ServletResponse wrappedResponse = invocation.getArgument(1);
+              byte[] buffer = new byte[64];
+              while (wrappedRequest.getInputStream().read(buffer, 0, buffer.length) != -1) {}
+              wrappedResponse.getOutputStream().write(new byte[250], 0, 250);
+              wrappedResponse.getOutputStream().write('\n');
+              return null;
+            })
+        .when(chain)
+        .doFilter(any(), any());
+
+    filter.doFilter(request, response, chain);
+
+    assertThat(meter("entity-bytes-in"), equalTo(100L));
+    assertThat(meter("entity-bytes-out"), equalTo(251L));
+    assertThat(written.size(), equalTo(251));
+  }
+
+  private long meter(String name) {
+    return metrics.meter(MetricRegistry.name(ByteCountingFilter.class, name)).getCount();
+  }
+
+  private static ServletInputStream inputStream(byte[] content) {
+    ByteArrayInputStream in = new ByteArrayInputStream(content);
+    return new ServletInputStream() {
+      @Override
+      public int read() {
+        return in.read();
+      }
+
+      @Override
+      public boolean isFinished() {
+        return in.available() == 0;
+      }
+
+      @Override
+      public boolean isReady() {
+        return true;
+      }
+
+      @Override
+      public void setReadListener(ReadListener readListener) {}
+    };
+  }
+
+  private ServletOutputStream outputStream() {
+    return new ServletOutputStream() {
+      @Override
+      public void write(int b) {
+        written.write(b);
+      }
+
+      @Override
+      public boolean isReady() {
+        return true;
+      }
+
+      @Override
+      public void setWriteListener(WriteListener writeListener) {}
+    };
+  }
+}
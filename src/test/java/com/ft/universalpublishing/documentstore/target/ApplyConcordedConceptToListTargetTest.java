@@ -0,0 +1,104 @@
+package com.ft.universalpublishing.documentstore.target;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ft.universalpublishing.documentstore.exception.ExternalSystemUnavailableException;
+import com.ft.universalpublishing.documentstore.model.read.Concept;
+import com.ft.universalpublishing.documentstore.model.read.ContentList;
+import com.ft.universalpublishing.documentstore.model.read.Context;
+import com.ft.universalpublishing.documentstore.service.DocumentVersion;
+import com.ft.universalpublishing.documentstore.service.PublicConceptsApiService;
+import java.util.UUID;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+
+public class ApplyConcordedConceptToListTargetTest {
+
+  private final PublicConceptsApiService publicConceptsApiService =
+      mock(PublicConceptsApiService.class);
+  private final ApplyConcordedConceptToListTarget target =
+      new ApplyConcordedConceptToListTarget(
+          publicConceptsApiService, "localhost", new ObjectMapper());
+
+  @Test
+  public void shouldApplyUpToDateConcept() throws Exception {
+    String conceptUUID = UUID.randomUUID().toString();
+    UUID concordedUUID = UUID.randomUUID();
+    when(publicConceptsApiService.getUpToDateConcept(conceptUUID))
+        .thenReturn(new Concept(concordedUUID, "Concorded"));
+
+    ContentList list = (ContentList) target.execute(listWithConcept(conceptUUID));
+
+    assertThat(list.getConcept().getPrefLabel(), equalTo("Concorded"));
+  }
+
+  @Test
+  public void shouldKeepStoredConceptWhenConceptsApiIsUnavailable() throws Exception {
+    String conceptUUID = UUID.randomUUID().toString();
+    when(publicConceptsApiService.getUpToDateConcept(conceptUUID))
+        .thenThrow(new ExternalSystemUnavailableException("public-concepts-api circuit is OPEN"));
+
+    ContentList list = (ContentList) target.execute(listWithConcept(conceptUUID));
+
+    assertThat(list.getConcept().getPrefLabel(), equalTo("Stored"));
+    assertThat(
+        list.getConcept().getApiUrl().toString(),
+        equalTo("http://localhost/things/" + conceptUUID));
+  }
+
+  @Test
+  public void shouldTagListWithItsVersionAndConcept() throws Exception {
+    String conceptUUID = UUID.randomUUID().toString();
+    UUID concordedUUID = UUID.randomUUID();
+    when(publicConceptsApiService.getUpToDateConcept(conceptUUID))
+        .thenReturn(new Concept(concordedUUID, "Concorded"))
+        .thenReturn(new Concept(concordedUUID, "Renamed"));
+
+    Response first = (Response) target.execute(versionedListWithConcept(conceptUUID));
+    Response renamed = (Response) target.execute(versionedListWithConcept(conceptUUID));
+
+    assertThat(first.getStatus(), equalTo(200));
+    assertThat(first.getEntityTag(), notNullValue());
+    assertThat(renamed.getEntityTag(), not(equalTo(first.getEntityTag())));
+  }
+
+  @Test
+  public void shouldAnswerUnchangedListWith304() throws Exception {
+    String conceptUUID = UUID.randomUUID().toString();
+    when(publicConceptsApiService.getUpToDateConcept(conceptUUID))
+        .thenReturn(new Concept(UUID.randomUUID(), "Concorded"));
+    Context context = versionedListWithConcept(conceptUUID);
+    when(context.getRequest().evaluatePreconditions(any(EntityTag.class)))
+        .thenReturn(Response.notModified());
+
+    Response response = (Response) target.execute(context);
+
+    assertThat(response.getStatus(), equalTo(304));
+  }
+
+  private static Context versionedListWithConcept(String conceptUUID) {
+    Context context = listWithConcept(conceptUUID);
+    context.setVersion(new DocumentVersion("0123456789abcdef", null));
+    context.setRequest(mock(Request.class));
+    return context;
+  }
+
+  private static Context listWithConcept(String conceptUUID) {
+    Context context = new Context();
+    context.setContentMap(
+        new Document("uuid", UUID.randomUUID().toString())
+            .append("title", "A list")
+            .append("concept", new Document("uuid", conceptUUID).append("prefLabel", "Stored")));
+    return context;
+  }
+}
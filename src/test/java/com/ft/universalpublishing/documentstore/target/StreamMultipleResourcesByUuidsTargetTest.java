@@ -0,0 +1,119 @@
+package com.ft.universalpublishing.documentstore.target;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ft.universalpublishing.documentstore.exception.ExternalSystemUnavailableException;
+import com.ft.universalpublishing.documentstore.model.read.Context;
+import com.ft.universalpublishing.documentstore.service.BsonJsonTranscoder;
+import com.ft.universalpublishing.documentstore.service.MongoDocumentStoreService;
+import com.mongodb.MongoClient;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import javax.ws.rs.core.StreamingOutput;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.junit.jupiter.api.Test;
+
+public class StreamMultipleResourcesByUuidsTargetTest {
+
+  private static final String COLLECTION = "content";
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final MongoDocumentStoreService documentStoreService =
+      mock(MongoDocumentStoreService.class);
+  private final StreamMultipleResourcesByUuidsTarget target =
+      new StreamMultipleResourcesByUuidsTarget(
+          documentStoreService,
+          new BsonJsonTranscoder(objectMapper, MongoClient.getDefaultCodecRegistry()));
+
+  @Test
+  public void shouldWriteFoundDocumentsInRequestedOrderAcrossBatches() throws IOException {
+    Set<UUID> uuids = new LinkedHashSet<>();
+    for (int i = 0; i < StreamMultipleResourcesByUuidsTarget.BATCH_SIZE + 10; i++) {
+      uuids.add(UUID.randomUUID());
+    }
+    String missing = uuids.iterator().next().toString();
+    when(documentStoreService.findRawByUuids(eq(COLLECTION), anyList(), isNull()))
+        .thenAnswer(invocation -> found(invocation.getArgument(1), missing));
+
+    JsonNode json = objectMapper.readTree(write(target.execute(context(uuids))));
+
+    verify(documentStoreService, times(2)).findRawByUuids(eq(COLLECTION), anyList(), isNull());
+    assertThat(json.size(), equalTo(uuids.size() - 1));
+    int i = 0;
+    for (UUID uuid : uuids) {
+      if (!uuid.toString().equals(missing)) {
+        assertThat(json.get(i++).get("uuid").asText(), equalTo(uuid.toString()));
+      }
+    }
+  }
+
+  @Test
+  public void shouldWriteEmptyArrayWhenNoUuidsAreRequested() throws IOException {
+    assertThat(write(target.execute(context(new LinkedHashSet<>()))), equalTo("[]"));
+  }
+
+  @Test
+  public void shouldLeaveTheArrayOpenWhenALaterBatchFails() {
+    Set<UUID> uuids = new LinkedHashSet<>();
+    for (int i = 0; i < StreamMultipleResourcesByUuidsTarget.BATCH_SIZE + 10; i++) {
+      uuids.add(UUID.randomUUID());
+    }
+    ExternalSystemUnavailableException failure =
+        new ExternalSystemUnavailableException("cannot communicate with mongo");
+    when(documentStoreService.findRawByUuids(eq(COLLECTION), anyList(), isNull()))
+        .thenAnswer(invocation -> found(invocation.getArgument(1), null))
+        .thenThrow(failure);
+    StreamingOutput output = (StreamingOutput) target.execute(context(uuids));
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    assertThrows(ExternalSystemUnavailableException.class, () -> output.write(out));
+
+    String written = new String(out.toByteArray(), StandardCharsets.UTF_8);
+    assertThat(written.startsWith("[{"), is(true));
+    assertThat(written.endsWith("]"), is(false));
+  }
+
+  private static Map<String, RawBsonDocument> found(Collection<String> uuids, String missing) {
+    Map<String, RawBsonDocument> found = new HashMap<>();
+    for (String uuid : uuids) {
+      if (!uuid.equals(missing)) {
+        found.put(uuid, new RawBsonDocument(new Document("uuid", uuid), new DocumentCodec()));
+      }
+    }
+    return found;
+  }
+
+  private static Context context(Set<UUID> uuids) {
+    Context context = new Context();
+    context.setCollection(COLLECTION);
+    context.setValidatedUuids(uuids);
+    return context;
+  }
+
+  private static String write(Object result) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ((StreamingOutput) result).write(out);
+    return out.toString("UTF-8");
+  }
+}
@@ -0,0 +1,125 @@
+package com.ft.universalpublishing.documentstore.target;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ft.universalpublishing.documentstore.model.read.Context;
+import com.ft.universalpublishing.documentstore.service.BsonJsonTranscoder;
+import com.ft.universalpublishing.documentstore.service.DocumentVersion;
+import com.ft.universalpublishing.documentstore.service.MongoDocumentStoreService;
+import com.mongodb.MongoClient;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Date;
+import java.util.UUID;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class StreamResourceByUuidTargetTest {
+
+  private static final String COLLECTION = "content";
+  private static final String ETAG = "0123456789abcdef";
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final MongoDocumentStoreService documentStoreService =
+      mock(MongoDocumentStoreService.class);
+  private final StreamResourceByUuidTarget target =
+      new StreamResourceByUuidTarget(
+          documentStoreService,
+          new BsonJsonTranscoder(objectMapper, MongoClient.getDefaultCodecRegistry()));
+  private final Request request = mock(Request.class);
+  private final HttpHeaders httpHeaders = mock(HttpHeaders.class);
+
+  private UUID uuid;
+  private Date lastModified;
+
+  @BeforeEach
+  public void setup() {
+    uuid = UUID.randomUUID();
+    lastModified = new Date(1_500_000_000_000L);
+    RawBsonDocument document =
+        new RawBsonDocument(
+            new Document("uuid", uuid.toString())
+                .append("lastModified", lastModified)
+                .append(DocumentVersion.ETAG_FIELD, ETAG),
+            new DocumentCodec());
+    when(documentStoreService.findRawByUuid(eq(COLLECTION), eq(uuid), isNull()))
+        .thenReturn(document);
+    when(documentStoreService.findVersionByUuid(COLLECTION, uuid))
+        .thenReturn(new DocumentVersion(ETAG, lastModified));
+  }
+
+  @Test
+  public void shouldReturnDocumentWithItsValidators() throws IOException {
+    Response response = (Response) target.execute(context());
+
+    assertThat(response.getStatus(), equalTo(200));
+    assertThat(response.getEntityTag(), equalTo(new EntityTag(ETAG)));
+    assertThat(response.getLastModified(), equalTo(lastModified));
+    JsonNode json = objectMapper.readTree(write(response));
+    assertThat(json.get("uuid").asText(), equalTo(uuid.toString()));
+    assertThat(json.has(DocumentVersion.ETAG_FIELD), is(false));
+    verify(documentStoreService, never()).findVersionByUuid(COLLECTION, uuid);
+  }
+
+  @Test
+  public void shouldAnswerMatchingConditionalRequestWithoutReadingTheDocument() {
+    when(httpHeaders.getHeaderString(HttpHeaders.IF_NONE_MATCH)).thenReturn("\"" + ETAG + "\"");
+    when(request.evaluatePreconditions(lastModified, new EntityTag(ETAG)))
+        .thenReturn(Response.notModified(new EntityTag(ETAG)));
+
+    Response response = (Response) target.execute(context());
+
+    assertThat(response.getStatus(), equalTo(304));
+    verify(documentStoreService, never()).findRawByUuid(any(), any(), any());
+  }
+
+  @Test
+  public void shouldTagProjectionsSeparately() {
+    Context context = context();
+    context.setFields(Collections.singleton("uuid"));
+    when(documentStoreService.findRawByUuid(eq(COLLECTION), eq(uuid), any()))
+        .thenReturn(
+            new RawBsonDocument(
+                new Document("uuid", uuid.toString()).append(DocumentVersion.ETAG_FIELD, ETAG),
+                new DocumentCodec()));
+
+    Response response = (Response) target.execute(context);
+
+    assertThat(response.getEntityTag().getValue().startsWith(ETAG + "-"), is(true));
+  }
+
+  private Context context() {
+    Context context = new Context();
+    context.setCollection(COLLECTION);
+    context.setUuids(uuid.toString());
+    context.setRequest(request);
+    context.setHttpHeaders(httpHeaders);
+    return context;
+  }
+
+  private static byte[] write(Response response) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ((StreamingOutput) response.getEntity()).write(out);
+    return out.toByteArray();
+  }
+}